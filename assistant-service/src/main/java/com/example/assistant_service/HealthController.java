@@ -0,0 +1,55 @@
+package com.example.assistant_service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+public class HealthController {
+
+    private final RestClient ticketRestClient;
+    private final Duration ticketServiceLatencyThreshold;
+
+    public HealthController(
+        RestClient ticketRestClient,
+        @Value("${assistant.readiness.ticket-service-latency-threshold:1s}") Duration ticketServiceLatencyThreshold
+    ) {
+        this.ticketRestClient = ticketRestClient;
+        this.ticketServiceLatencyThreshold = ticketServiceLatencyThreshold;
+    }
+
+    @GetMapping("/health")
+    public String health() {
+        return "OK";
+    }
+
+    /**
+     * Readiness for load balancers: 503 when ticket-service does not answer its health check
+     * within the threshold.
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<ReadinessResponse> ready() {
+        ReadinessResponse response = new ReadinessResponse(List.of(checkTicketService()));
+        return ResponseEntity.status(response.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    private ReadinessResponse.Check checkTicketService() {
+        long started = System.nanoTime();
+        boolean reachable;
+        try {
+            ticketRestClient.get().uri("/health").retrieve().toBodilessEntity();
+            reachable = true;
+        } catch (RestClientException ex) {
+            reachable = false;
+        }
+        long latencyMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        return new ReadinessResponse.Check("ticket-service", reachable, latencyMs, ticketServiceLatencyThreshold.toMillis());
+    }
+}
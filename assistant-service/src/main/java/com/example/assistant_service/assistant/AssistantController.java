@@ -2,8 +2,10 @@ package com.example.assistant_service.assistant;
 
 import com.example.assistant_service.assistant.dto.ChatRequest;
 import com.example.assistant_service.assistant.dto.ChatResponse;
+import com.example.assistant_service.assistant.dto.TicketCacheStats;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,13 +17,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class AssistantController {
 
     private final AssistantService assistantService;
+    private final TicketSnapshotCache ticketCache;
 
-    public AssistantController(AssistantService assistantService) {
+    public AssistantController(AssistantService assistantService, TicketSnapshotCache ticketCache) {
         this.assistantService = assistantService;
+        this.ticketCache = ticketCache;
     }
 
     @PostMapping("/chat")
     public ChatResponse chat(@Valid @RequestBody ChatRequest request) {
         return assistantService.chat(request.getMessage());
     }
+
+    @GetMapping("/cache/stats")
+    public TicketCacheStats cacheStats() {
+        return ticketCache.stats();
+    }
 }
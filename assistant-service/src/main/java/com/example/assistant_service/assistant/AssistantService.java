@@ -4,12 +4,10 @@ import com.example.assistant_service.assistant.dto.ChatResponse;
 import com.example.assistant_service.assistant.dto.TicketView;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -18,143 +16,149 @@ import java.util.stream.Collectors;
 public class AssistantService {
 
     private static final Pattern TICKET_ID_PATTERN = Pattern.compile("(?:ticket\\s*#?\\s*|#)(\\d+)");
-
-    private final TicketClient ticketClient;
-
-    public AssistantService(TicketClient ticketClient) {
-        this.ticketClient = ticketClient;
+    private static final int MAX_MENTIONED_TICKETS = 10;
+    private static final int MAX_ID_DIGITS = 18;
+    private static final IntentMatcher<ChatIntent> INTENT_MATCHER = new IntentMatcher<>(ChatIntent.class, ChatIntent::keywords);
+
+    private final TicketSnapshotCache ticketCache;
+    private final TicketLookup ticketLookup;
+    private final ChatMetrics chatMetrics;
+
+    public AssistantService(TicketSnapshotCache ticketCache, TicketLookup ticketLookup, ChatMetrics chatMetrics) {
+        this.ticketCache = ticketCache;
+        this.ticketLookup = ticketLookup;
+        this.chatMetrics = chatMetrics;
     }
 
     public ChatResponse chat(String rawMessage) {
+        long started = System.nanoTime();
         String message = rawMessage == null ? "" : rawMessage.trim().toLowerCase();
         if (message.isBlank()) {
-            return new ChatResponse("Ask a specific question like: status of ticket #1 or how many open tickets.", defaultSuggestions());
+            return reply(ChatIntent.FALLBACK, started, "Ask a specific question like: status of ticket #1 or how many open tickets.");
         }
 
-        List<TicketView> tickets = ticketClient.fetchTickets();
-
-        if (tickets.isEmpty()) {
-            if (containsAny(message, "open")) return new ChatResponse("Open tickets: 0.", defaultSuggestions());
-            if (containsAny(message, "summary", "overview")) return new ChatResponse("Queue summary: total=0, open=0, inProgress=0, blocked=0, resolved=0, breached=0, dueSoon=0.", defaultSuggestions());
-            return new ChatResponse("There are no tickets yet. Create incoming issues and I can triage them.", defaultSuggestions());
+        Set<ChatIntent> intents = INTENT_MATCHER.match(message);
+        List<Long> ids = mentionedIds(message);
+        if (!ids.isEmpty()) {
+            List<TicketView> mentioned = ticketLookup.find(ids);
+            if (!mentioned.isEmpty()) {
+                long nowEpochSecond = Instant.now().getEpochSecond();
+                String answer = mentioned.stream().map(t -> describeTicket(t, intents, nowEpochSecond)).collect(Collectors.joining(" "));
+                return reply(ChatIntent.TICKET_LOOKUP, started, answer);
+            }
         }
 
-        Optional<TicketView> exact = findTicketFromMessage(message, tickets);
-        if (exact.isPresent()) {
-            TicketView t = exact.get();
-            if (containsAny(message, "status", "state")) {
-                return new ChatResponse("Ticket #" + t.getId() + " status is " + t.getStatus() + ".", defaultSuggestions());
-            }
-            if (containsAny(message, "assign", "owner", "assignee", "who")) {
-                return new ChatResponse("Ticket #" + t.getId() + " is assigned to " + (isBlank(t.getAssignedTo()) ? "unassigned" : t.getAssignedTo()) + ".", defaultSuggestions());
-            }
-            if (containsAny(message, "sla", "due", "breach", "overdue")) {
-                long sec = Duration.between(Instant.now(), t.getSlaDueAt()).getSeconds();
-                return new ChatResponse("Ticket #" + t.getId() + " SLA remaining: " + formatSeconds(sec) + (sec < 0 ? " (breached)." : "."), defaultSuggestions());
-            }
-            if (containsAny(message, "priority")) {
-                return new ChatResponse("Ticket #" + t.getId() + " priority is " + t.getPriority() + ".", defaultSuggestions());
-            }
-            return new ChatResponse("Ticket #" + t.getId() + ": status=" + t.getStatus() + ", priority=" + t.getPriority() + ".", defaultSuggestions());
+        TicketAggregates tickets = ticketCache.aggregates();
+
+        if (tickets.total() == 0) {
+            if (intents.contains(ChatIntent.EMPTY_OPEN)) return reply(ChatIntent.EMPTY_OPEN, started, "Open tickets: 0.");
+            if (intents.contains(ChatIntent.EMPTY_SUMMARY)) return reply(ChatIntent.EMPTY_SUMMARY, started, "Queue summary: total=0, open=0, inProgress=0, blocked=0, resolved=0, breached=0, dueSoon=0.");
+            return reply(ChatIntent.FALLBACK, started, "There are no tickets yet. Create incoming issues and I can triage them.");
         }
 
-        if (containsAny(message, "how many open", "open tickets", "open count")) {
-            long open = tickets.stream().filter(t -> "OPEN".equals(t.getStatus())).count();
-            return new ChatResponse("Open tickets: " + open + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.OPEN_COUNT)) {
+            long open = tickets.countByStatus("OPEN");
+            return reply(ChatIntent.OPEN_COUNT, started, "Open tickets: " + open + ".");
         }
 
-        if (containsAny(message, "how many in progress", "in progress tickets")) {
-            long inProgress = tickets.stream().filter(t -> "IN_PROGRESS".equals(t.getStatus())).count();
-            return new ChatResponse("In-progress tickets: " + inProgress + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.IN_PROGRESS_COUNT)) {
+            long inProgress = tickets.countByStatus("IN_PROGRESS");
+            return reply(ChatIntent.IN_PROGRESS_COUNT, started, "In-progress tickets: " + inProgress + ".");
         }
 
-        if (containsAny(message, "how many blocked", "blocked tickets")) {
-            long blocked = tickets.stream().filter(t -> "BLOCKED".equals(t.getStatus())).count();
-            return new ChatResponse("Blocked tickets: " + blocked + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.BLOCKED_COUNT)) {
+            long blocked = tickets.countByStatus("BLOCKED");
+            return reply(ChatIntent.BLOCKED_COUNT, started, "Blocked tickets: " + blocked + ".");
         }
 
-        if (containsAny(message, "how many resolved", "resolved tickets")) {
-            long resolved = tickets.stream().filter(t -> "RESOLVED".equals(t.getStatus())).count();
-            return new ChatResponse("Resolved tickets: " + resolved + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.RESOLVED_COUNT)) {
+            long resolved = tickets.countByStatus("RESOLVED");
+            return reply(ChatIntent.RESOLVED_COUNT, started, "Resolved tickets: " + resolved + ".");
         }
 
-        if (containsAny(message, "priority", "critical", "high")) {
-            long critical = tickets.stream().filter(t -> "CRITICAL".equals(t.getPriority())).count();
-            long high = tickets.stream().filter(t -> "HIGH".equals(t.getPriority())).count();
-            long medium = tickets.stream().filter(t -> "MEDIUM".equals(t.getPriority())).count();
-            long low = tickets.stream().filter(t -> "LOW".equals(t.getPriority())).count();
-            return new ChatResponse("Priority split: critical=" + critical + ", high=" + high + ", medium=" + medium + ", low=" + low + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.PRIORITY_SPLIT)) {
+            long critical = tickets.countByPriority("CRITICAL");
+            long high = tickets.countByPriority("HIGH");
+            long medium = tickets.countByPriority("MEDIUM");
+            long low = tickets.countByPriority("LOW");
+            return reply(ChatIntent.PRIORITY_SPLIT, started, "Priority split: critical=" + critical + ", high=" + high + ", medium=" + medium + ", low=" + low + ".");
         }
 
-        if (containsAny(message, "breach", "overdue", "escalate")) {
-            List<TicketView> breached = breachedTickets(tickets);
+        if (intents.contains(ChatIntent.BREACHES)) {
+            List<TicketView> breached = tickets.breached(Instant.now(), 5);
             if (breached.isEmpty()) {
-                return new ChatResponse("No active SLA breaches right now.", defaultSuggestions());
+                return reply(ChatIntent.BREACHES, started, "No active SLA breaches right now.");
             }
-            String top = breached.stream().limit(5).map(t -> "#" + t.getId() + " " + t.getTitle()).collect(Collectors.joining("; "));
-            return new ChatResponse("SLA breached tickets: " + top + ".", defaultSuggestions());
+            String top = breached.stream().map(t -> "#" + t.getId() + " " + t.getTitle()).collect(Collectors.joining("; "));
+            return reply(ChatIntent.BREACHES, started, "SLA breached tickets: " + top + ".");
         }
 
-        if (containsAny(message, "workload", "owner", "assignee", "agent")) {
-            Map<String, Long> byAssignee = tickets.stream()
-                .filter(t -> !"RESOLVED".equals(t.getStatus()))
-                .collect(Collectors.groupingBy(t -> isBlank(t.getAssignedTo()) ? "unassigned" : t.getAssignedTo(), Collectors.counting()));
-            String workload = byAssignee.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        if (intents.contains(ChatIntent.WORKLOAD)) {
+            String workload = tickets.workload().stream()
                 .map(e -> e.getKey() + "=" + e.getValue())
                 .collect(Collectors.joining(", "));
-            return new ChatResponse("Current workload: " + workload + ".", defaultSuggestions());
+            return reply(ChatIntent.WORKLOAD, started, "Current workload: " + workload + ".");
         }
 
-        if (containsAny(message, "next", "what should i do", "action")) {
-            TicketView next = tickets.stream()
-                .filter(t -> !"RESOLVED".equals(t.getStatus()))
-                .min(Comparator.comparing(TicketView::getSlaDueAt))
-                .orElse(null);
+        if (intents.contains(ChatIntent.NEXT_ACTION)) {
+            TicketView next = tickets.nextDue().orElse(null);
             if (next == null) {
-                return new ChatResponse("No active tickets. Queue is clear.", defaultSuggestions());
+                return reply(ChatIntent.NEXT_ACTION, started, "No active tickets. Queue is clear.");
             }
-            return new ChatResponse("Next action: work on ticket #" + next.getId() + " - " + next.getTitle() + " (" + next.getPriority() + ").", defaultSuggestions());
+            return reply(ChatIntent.NEXT_ACTION, started, "Next action: work on ticket #" + next.getId() + " - " + next.getTitle() + " (" + next.getPriority() + ").");
         }
 
-        if (containsAny(message, "summary", "overview", "dashboard")) {
-            return new ChatResponse(buildSummary(tickets), defaultSuggestions());
+        if (intents.contains(ChatIntent.SUMMARY)) {
+            return reply(ChatIntent.SUMMARY, started, buildSummary(tickets));
         }
 
-        return new ChatResponse("I could not map that exactly. Ask: status of ticket #id, open count, breaches, workload, or next action.", defaultSuggestions());
+        return reply(ChatIntent.FALLBACK, started, "I could not map that exactly. Ask: status of ticket #id, open count, breaches, workload, or next action.");
     }
 
-    private static String buildSummary(List<TicketView> tickets) {
-        Instant now = Instant.now();
-        long open = tickets.stream().filter(t -> "OPEN".equals(t.getStatus())).count();
-        long inProgress = tickets.stream().filter(t -> "IN_PROGRESS".equals(t.getStatus())).count();
-        long blocked = tickets.stream().filter(t -> "BLOCKED".equals(t.getStatus())).count();
-        long resolved = tickets.stream().filter(t -> "RESOLVED".equals(t.getStatus())).count();
-        long breached = tickets.stream().filter(t -> !"RESOLVED".equals(t.getStatus()) && t.getSlaDueAt().isBefore(now)).count();
-        long dueSoon = tickets.stream().filter(t -> !"RESOLVED".equals(t.getStatus()))
-            .map(t -> Duration.between(now, t.getSlaDueAt()).getSeconds())
-            .filter(sec -> sec >= 0 && sec <= 1800)
-            .count();
-
-        return "Queue summary: total=" + tickets.size() + ", open=" + open + ", inProgress=" + inProgress + ", blocked=" + blocked + ", resolved=" + resolved + ", breached=" + breached + ", dueSoon=" + dueSoon + ".";
+    private ChatResponse reply(ChatIntent intent, long started, String answer) {
+        chatMetrics.record(intent, started);
+        return new ChatResponse(answer, defaultSuggestions());
     }
 
-    private static List<TicketView> breachedTickets(List<TicketView> tickets) {
+    private static String buildSummary(TicketAggregates tickets) {
         Instant now = Instant.now();
-        return tickets.stream()
-            .filter(t -> !"RESOLVED".equals(t.getStatus()))
-            .filter(t -> t.getSlaDueAt() != null && t.getSlaDueAt().isBefore(now))
-            .sorted(Comparator.comparing(TicketView::getSlaDueAt))
-            .toList();
+        long open = tickets.countByStatus("OPEN");
+        long inProgress = tickets.countByStatus("IN_PROGRESS");
+        long blocked = tickets.countByStatus("BLOCKED");
+        long resolved = tickets.countByStatus("RESOLVED");
+        long breached = tickets.countBreached(now);
+        long dueSoon = tickets.countDueWithin(now, 1800);
+
+        return "Queue summary: total=" + tickets.total() + ", open=" + open + ", inProgress=" + inProgress + ", blocked=" + blocked + ", resolved=" + resolved + ", breached=" + breached + ", dueSoon=" + dueSoon + ".";
     }
 
-    private static Optional<TicketView> findTicketFromMessage(String message, List<TicketView> tickets) {
+    private static String describeTicket(TicketView t, Set<ChatIntent> intents, long nowEpochSecond) {
+        if (intents.contains(ChatIntent.TICKET_STATUS)) {
+            return "Ticket #" + t.getId() + " status is " + t.getStatus() + ".";
+        }
+        if (intents.contains(ChatIntent.TICKET_ASSIGNEE)) {
+            return "Ticket #" + t.getId() + " is assigned to " + (isBlank(t.getAssignedTo()) ? "unassigned" : t.getAssignedTo()) + ".";
+        }
+        if (intents.contains(ChatIntent.TICKET_SLA)) {
+            long sec = t.getSlaDueAt().getEpochSecond() - nowEpochSecond;
+            return "Ticket #" + t.getId() + " SLA remaining: " + formatSeconds(sec) + (sec < 0 ? " (breached)." : ".");
+        }
+        if (intents.contains(ChatIntent.TICKET_PRIORITY)) {
+            return "Ticket #" + t.getId() + " priority is " + t.getPriority() + ".";
+        }
+        return "Ticket #" + t.getId() + ": status=" + t.getStatus() + ", priority=" + t.getPriority() + ".";
+    }
+
+    private static List<Long> mentionedIds(String message) {
+        Set<Long> ids = new LinkedHashSet<>();
         Matcher matcher = TICKET_ID_PATTERN.matcher(message);
-        if (!matcher.find()) {
-            return Optional.empty();
+        while (matcher.find() && ids.size() < MAX_MENTIONED_TICKETS) {
+            String digits = matcher.group(1);
+            if (digits.length() <= MAX_ID_DIGITS) {
+                ids.add(Long.parseLong(digits));
+            }
         }
-        long id = Long.parseLong(matcher.group(1));
-        return tickets.stream().filter(t -> t.getId() != null && t.getId() == id).findFirst();
+        return List.copyOf(ids);
     }
 
     private static String formatSeconds(long sec) {
@@ -164,15 +168,6 @@ public class AssistantService {
         return (sec < 0 ? "-" : "") + String.format("%02d:%02d", minutes, seconds);
     }
 
-    private static boolean containsAny(String text, String... keys) {
-        for (String key : keys) {
-            if (text.contains(key)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
@@ -0,0 +1,38 @@
+package com.example.assistant_service.assistant;
+
+import java.util.List;
+
+/**
+ * Keyword groups the assistant routes on. Matching only reports which groups occur in a message;
+ * which one wins is decided by the order {@link AssistantService} checks them in. The trailing
+ * constants have no keywords and only label answers for {@link ChatMetrics}.
+ */
+public enum ChatIntent {
+    EMPTY_OPEN("open"),
+    EMPTY_SUMMARY("summary", "overview"),
+    TICKET_STATUS("status", "state"),
+    TICKET_ASSIGNEE("assign", "owner", "assignee", "who"),
+    TICKET_SLA("sla", "due", "breach", "overdue"),
+    TICKET_PRIORITY("priority"),
+    OPEN_COUNT("how many open", "open tickets", "open count"),
+    IN_PROGRESS_COUNT("how many in progress", "in progress tickets"),
+    BLOCKED_COUNT("how many blocked", "blocked tickets"),
+    RESOLVED_COUNT("how many resolved", "resolved tickets"),
+    PRIORITY_SPLIT("priority", "critical", "high"),
+    BREACHES("breach", "overdue", "escalate"),
+    WORKLOAD("workload", "owner", "assignee", "agent"),
+    NEXT_ACTION("next", "what should i do", "action"),
+    SUMMARY("summary", "overview", "dashboard"),
+    TICKET_LOOKUP,
+    FALLBACK;
+
+    private final List<String> keywords;
+
+    ChatIntent(String... keywords) {
+        this.keywords = List.of(keywords);
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.assistant_service.assistant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and hit count of each kind of chat answer, as {@code assistant.chat} timers tagged with
+ * the intent that produced it. The timers are registered up front, so recording does not allocate.
+ */
+@Component
+public class ChatMetrics {
+
+    private final Timer[] timers;
+
+    public ChatMetrics(MeterRegistry registry) {
+        ChatIntent[] intents = ChatIntent.values();
+        timers = new Timer[intents.length];
+        for (ChatIntent intent : intents) {
+            timers[intent.ordinal()] = Timer.builder("assistant.chat")
+                .description("Assistant answers by intent")
+                .tag("intent", intent.name().toLowerCase(Locale.ROOT))
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+    }
+
+    public void record(ChatIntent intent, long startedNanos) {
+        timers[intent.ordinal()].record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+}
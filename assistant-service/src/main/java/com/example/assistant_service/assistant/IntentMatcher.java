@@ -0,0 +1,117 @@
+package com.example.assistant_service.assistant;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keyword table compiled once into an Aho-Corasick automaton. A single pass over a message finds
+ * every intent with at least one keyword occurring in it, the same set a chain of
+ * {@code String.contains} calls would find, so adding intents does not slow matching down.
+ * Keywords are ASCII; any other character simply restarts the automaton.
+ */
+public class IntentMatcher<E extends Enum<E>> {
+
+    private static final int ALPHABET = 128;
+
+    private final Class<E> type;
+    private final E[] intents;
+    private final int[][] transitions;
+    private final long[] matches;
+
+    public IntentMatcher(Class<E> type, Function<E, List<String>> keywords) {
+        this.type = type;
+        this.intents = type.getEnumConstants();
+        if (intents.length > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " intents are supported");
+        }
+
+        List<int[]> trie = new ArrayList<>();
+        List<Long> found = new ArrayList<>();
+        trie.add(emptyNode());
+        found.add(0L);
+        for (E intent : intents) {
+            for (String keyword : keywords.apply(intent)) {
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = keyword.charAt(i);
+                    if (c >= ALPHABET) {
+                        throw new IllegalArgumentException("Keyword must be ASCII: " + keyword);
+                    }
+                    if (trie.get(state)[c] < 0) {
+                        trie.get(state)[c] = trie.size();
+                        trie.add(emptyNode());
+                        found.add(0L);
+                    }
+                    state = trie.get(state)[c];
+                }
+                found.set(state, found.get(state) | 1L << intent.ordinal());
+            }
+        }
+
+        this.transitions = trie.toArray(new int[0][]);
+        this.matches = new long[transitions.length];
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] = found.get(i);
+        }
+        link();
+    }
+
+    public Set<E> match(CharSequence text) {
+        int state = 0;
+        long matched = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            state = c < ALPHABET ? transitions[state][c] : 0;
+            matched |= matches[state];
+        }
+
+        EnumSet<E> result = EnumSet.noneOf(type);
+        while (matched != 0) {
+            result.add(intents[Long.numberOfTrailingZeros(matched)]);
+            matched &= matched - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Turns the trie into a full transition table: missing edges follow the failure link, and each
+     * state also reports the keywords that end in its longest proper suffix.
+     */
+    private void link() {
+        int[] failure = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[0][c];
+            if (next < 0) {
+                transitions[0][c] = 0;
+            } else {
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[next] = transitions[failure[state]][c];
+                    matches[next] |= matches[failure[next]];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    private static int[] emptyNode() {
+        int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        return node;
+    }
+}
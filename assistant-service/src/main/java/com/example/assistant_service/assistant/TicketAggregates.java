@@ -0,0 +1,195 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.assistant.dto.TicketView;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incrementally maintained view of the ticket queue: tickets by id, status x priority counts,
+ * open workload per assignee ordered by load, and unresolved tickets ordered by SLA deadline.
+ * Chat intents read a counter or the first k entries of an ordered set instead of scanning; only
+ * the breached and due-soon counts walk a sub-range, and only over the tickets they count.
+ * Writers must be serialized by the owner; readers are lock-free.
+ */
+public class TicketAggregates {
+
+    private static final String RESOLVED = "RESOLVED";
+    private static final String UNASSIGNED = "unassigned";
+    private static final Comparator<TicketView> BY_DEADLINE = Comparator
+        .comparing(TicketView::getSlaDueAt)
+        .thenComparing(TicketView::getId);
+    private static final Comparator<Workload> BY_LOAD = Comparator
+        .comparingLong((Workload w) -> w.count).reversed()
+        .thenComparing(w -> w.assignee);
+
+    private final ConcurrentHashMap<Long, TicketView> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, AtomicLong>> byStatusAndPriority = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Workload> workload = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Workload> byLoad = new ConcurrentSkipListSet<>(BY_LOAD);
+    private final ConcurrentSkipListSet<TicketView> byDeadline = new ConcurrentSkipListSet<>(BY_DEADLINE);
+
+    public static TicketAggregates of(Collection<TicketView> tickets) {
+        TicketAggregates aggregates = new TicketAggregates();
+        for (TicketView ticket : tickets) {
+            aggregates.upsert(ticket);
+        }
+        return aggregates;
+    }
+
+    public void upsert(TicketView ticket) {
+        if (ticket.getId() == null) {
+            return;
+        }
+        TicketView previous = byId.put(ticket.getId(), ticket);
+        if (previous != null) {
+            subtract(previous);
+        }
+        add(ticket);
+    }
+
+    public void remove(Long id) {
+        TicketView previous = byId.remove(id);
+        if (previous != null) {
+            subtract(previous);
+        }
+    }
+
+    public int total() {
+        return byId.size();
+    }
+
+    public long countByStatus(String status) {
+        Map<String, AtomicLong> row = byStatusAndPriority.get(key(status));
+        long total = 0;
+        if (row != null) {
+            for (AtomicLong count : row.values()) {
+                total += count.get();
+            }
+        }
+        return total;
+    }
+
+    public long countByPriority(String priority) {
+        long total = 0;
+        for (Map<String, AtomicLong> row : byStatusAndPriority.values()) {
+            AtomicLong count = row.get(key(priority));
+            if (count != null) {
+                total += count.get();
+            }
+        }
+        return total;
+    }
+
+    public List<Map.Entry<String, Long>> workload() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        for (Workload entry : byLoad) {
+            entries.add(Map.entry(entry.assignee, entry.count));
+        }
+        return entries;
+    }
+
+    public Optional<TicketView> nextDue() {
+        return byDeadline.isEmpty() ? Optional.empty() : Optional.ofNullable(byDeadline.first());
+    }
+
+    public List<TicketView> breached(Instant now, int limit) {
+        List<TicketView> breached = new ArrayList<>(Math.min(limit, 16));
+        for (TicketView ticket : breachedView(now)) {
+            if (breached.size() == limit) {
+                break;
+            }
+            breached.add(ticket);
+        }
+        return breached;
+    }
+
+    public long countBreached(Instant now) {
+        return breachedView(now).size();
+    }
+
+    public long countDueWithin(Instant now, long seconds) {
+        return byDeadline.subSet(probe(now), true, probe(now.plusSeconds(seconds + 1)), false).size();
+    }
+
+    private NavigableSet<TicketView> breachedView(Instant now) {
+        return byDeadline.headSet(probe(now), false);
+    }
+
+    private void add(TicketView ticket) {
+        counter(ticket).incrementAndGet();
+        if (!RESOLVED.equals(ticket.getStatus())) {
+            adjustWorkload(assignee(ticket), 1);
+            if (ticket.getSlaDueAt() != null) {
+                byDeadline.add(ticket);
+            }
+        }
+    }
+
+    private void subtract(TicketView ticket) {
+        counter(ticket).decrementAndGet();
+        if (!RESOLVED.equals(ticket.getStatus())) {
+            adjustWorkload(assignee(ticket), -1);
+            if (ticket.getSlaDueAt() != null) {
+                byDeadline.remove(ticket);
+            }
+        }
+    }
+
+    private AtomicLong counter(TicketView ticket) {
+        return byStatusAndPriority
+            .computeIfAbsent(key(ticket.getStatus()), status -> new ConcurrentHashMap<>())
+            .computeIfAbsent(key(ticket.getPriority()), priority -> new AtomicLong());
+    }
+
+    private void adjustWorkload(String assignee, long delta) {
+        Workload existing = workload.get(assignee);
+        long count = (existing == null ? 0 : existing.count) + delta;
+        if (existing != null) {
+            byLoad.remove(existing);
+        }
+        if (count <= 0) {
+            workload.remove(assignee);
+            return;
+        }
+        Workload updated = new Workload(assignee, count);
+        workload.put(assignee, updated);
+        byLoad.add(updated);
+    }
+
+    private static String assignee(TicketView ticket) {
+        String assignedTo = ticket.getAssignedTo();
+        return assignedTo == null || assignedTo.isBlank() ? UNASSIGNED : assignedTo;
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static TicketView probe(Instant slaDueAt) {
+        TicketView probe = new TicketView();
+        probe.setId(Long.MIN_VALUE);
+        probe.setSlaDueAt(slaDueAt);
+        return probe;
+    }
+
+    private static final class Workload {
+
+        private final String assignee;
+        private final long count;
+
+        private Workload(String assignee, long count) {
+            this.assignee = assignee;
+            this.count = count;
+        }
+    }
+}
@@ -1,33 +1,274 @@
 package com.example.assistant_service.assistant;
 
-import com.example.assistant_service.assistant.dto.TicketPageResponse;
+import com.example.assistant_service.assistant.dto.TicketBatchView;
+import com.example.assistant_service.assistant.dto.TicketChangesView;
 import com.example.assistant_service.assistant.dto.TicketView;
+import com.example.assistant_service.config.TicketServiceProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * HTTP client for ticket-service. Tickets are requested with only the fields {@link TicketView}
+ * reads, encoded as CBOR unless the wire format is set to JSON. Calls go through {@link TicketServiceGuard}. Each call is timed as
+ * {@code ticket.client.requests}, retries included, and tagged with the operation and whether it
+ * failed. The bytes read from each response body are recorded as {@code ticket.client.payload}.
+ * Exports and single-ticket reads remember the ETag they were served with and send it back as
+ * {@code If-None-Match}, reusing the previous result when ticket-service answers 304.
+ */
 @Component
 public class TicketClient {
 
+    private enum Operation { EXPORT, CHANGES, TICKET, BATCH }
+
+    private static final String VIEW_FIELDS = "id,title,priority,status,assignedTo,slaDueAt";
+    private static final MediaType CBOR_SEQ = new MediaType("application", "cbor-seq");
+    private static final int MAX_VALIDATED = 10_000;
+
     private final RestClient restClient;
+    private final ObjectMapper wireMapper;
+    private final MediaType documentType;
+    private final MediaType exportType;
+    private final String exportFormat;
+    private final TicketServiceGuard guard;
+    private final Timer[] succeeded;
+    private final Timer[] failed;
+    private final DistributionSummary[] payloadBytes;
+    private final ConcurrentHashMap<String, Validated> validated = new ConcurrentHashMap<>();
 
-    public TicketClient(RestClient ticketRestClient) {
+    public TicketClient(
+        RestClient ticketRestClient,
+        JsonMapper jsonMapper,
+        CBORMapper cborMapper,
+        TicketServiceProperties props,
+        TicketServiceGuard guard,
+        MeterRegistry meterRegistry
+    ) {
         this.restClient = ticketRestClient;
+        boolean cbor = props.getWireFormat() == TicketServiceProperties.WireFormat.CBOR;
+        this.wireMapper = cbor ? cborMapper : jsonMapper;
+        this.documentType = cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON;
+        this.exportType = cbor ? CBOR_SEQ : MediaType.APPLICATION_NDJSON;
+        this.exportFormat = cbor ? "cbor" : "ndjson";
+        this.guard = guard;
+        Operation[] operations = Operation.values();
+        this.succeeded = new Timer[operations.length];
+        this.failed = new Timer[operations.length];
+        this.payloadBytes = new DistributionSummary[operations.length];
+        for (Operation operation : operations) {
+            String name = operation.name().toLowerCase(Locale.ROOT);
+            succeeded[operation.ordinal()] = requestTimer(meterRegistry, name, "success");
+            failed[operation.ordinal()] = requestTimer(meterRegistry, name, "error");
+            payloadBytes[operation.ordinal()] = DistributionSummary.builder("ticket.client.payload")
+                .description("Response bytes read from ticket-service")
+                .baseUnit("bytes")
+                .tag("operation", name)
+                .register(meterRegistry);
+        }
     }
 
     public List<TicketView> fetchTickets() {
-        TicketPageResponse page = restClient.get()
+        return exchange(Operation.EXPORT, "export", restClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/tickets/export")
+                .queryParam("format", exportFormat)
+                .queryParam("fields", VIEW_FIELDS)
+                .build())
+            .accept(exportType), (status, body) -> {
+                if (status.isError()) {
+                    throw new RestClientException("Ticket export failed with status " + status);
+                }
+                List<TicketView> tickets = new ArrayList<>();
+                try (MappingIterator<TicketView> lines = wireMapper.readerFor(TicketView.class).readValues(body)) {
+                    while (lines.hasNext()) {
+                        tickets.add(lines.next());
+                    }
+                }
+                return tickets;
+            });
+    }
+
+    public TicketChangesView fetchChanges(String since, int limit) {
+        return exchange(Operation.CHANGES, null, restClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/tickets/changes")
+                .queryParamIfPresent("since", Optional.ofNullable(since))
+                .queryParam("limit", limit)
+                .queryParam("fields", VIEW_FIELDS)
+                .build())
+            .accept(documentType), (status, body) -> {
+                if (status.isError()) {
+                    throw new RestClientException("Ticket changes failed with status " + status);
+                }
+                return wireMapper.readValue(body, TicketChangesView.class);
+            });
+    }
+
+    public Optional<TicketView> fetchTicket(long id) {
+        return exchange(Operation.TICKET, "ticket:" + id, restClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/tickets/{id}")
+                .queryParam("fields", VIEW_FIELDS)
+                .build(id))
+            .accept(documentType), (status, body) -> {
+                if (status.isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                    return Optional.empty();
+                }
+                if (status.isError()) {
+                    throw new RestClientException("Ticket lookup failed with status " + status);
+                }
+                return Optional.of(wireMapper.readValue(body, TicketView.class));
+            });
+    }
+
+    public List<TicketView> fetchTickets(Collection<Long> ids) {
+        TicketBatchView batch = exchange(Operation.BATCH, null, restClient.get()
             .uri(uriBuilder -> uriBuilder
-                .path("/tickets")
-                .queryParam("page", 0)
-                .queryParam("size", 500)
-                .queryParam("sortBy", "id")
-                .queryParam("direction", "asc")
+                .path("/tickets/batch")
+                .queryParam("ids", ids)
+                .queryParam("fields", VIEW_FIELDS)
                 .build())
-            .retrieve()
-            .body(TicketPageResponse.class);
+            .accept(documentType), (status, body) -> {
+                if (status.isError()) {
+                    throw new RestClientException("Ticket batch lookup failed with status " + status);
+                }
+                return wireMapper.readValue(body, TicketBatchView.class);
+            });
+        return batch == null ? List.of() : batch.getItems();
+    }
+
+    /**
+     * Runs the request through the guard. With a {@code validatorKey}, the ETag of the last answer
+     * read under that key is sent as {@code If-None-Match} and a 304 returns that answer again.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T exchange(Operation operation, String validatorKey, RestClient.RequestHeadersSpec<?> request, BodyReader<T> reader) {
+        long started = System.nanoTime();
+        boolean ok = false;
+        Validated previous = validatorKey == null ? null : validated.get(validatorKey);
+        if (previous != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, previous.etag);
+        }
+        try {
+            T result = guard.call(operation.name(), () -> request.exchange((httpRequest, response) -> {
+                if (response.getStatusCode().is5xxServerError()) {
+                    throw new HttpServerErrorException(response.getStatusCode(), "ticket-service " + operation + " failed");
+                }
+                if (previous != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    payloadBytes[operation.ordinal()].record(0);
+                    return (T) previous.value;
+                }
+                CountingInputStream body = new CountingInputStream(response.getBody());
+                T value;
+                try {
+                    value = reader.read(response.getStatusCode(), body);
+                } finally {
+                    payloadBytes[operation.ordinal()].record(body.count);
+                }
+                String etag = response.getHeaders().getETag();
+                if (validatorKey != null) {
+                    remember(validatorKey, etag, value);
+                }
+                return value;
+            }));
+            ok = true;
+            return result;
+        } finally {
+            Timer timer = ok ? succeeded[operation.ordinal()] : failed[operation.ordinal()];
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void remember(String key, String etag, Object value) {
+        if (etag == null || value == null) {
+            validated.remove(key);
+            return;
+        }
+        if (validated.size() >= MAX_VALIDATED && !validated.containsKey(key)) {
+            validated.clear();
+        }
+        validated.put(key, new Validated(etag, value));
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("ticket.client.requests")
+            .description("Calls to ticket-service")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static final class Validated {
+
+        private final String etag;
+        private final Object value;
+
+        private Validated(String etag, Object value) {
+            this.etag = etag;
+            this.value = value;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(HttpStatusCode status, InputStream body) throws IOException;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
 
-        return page == null || page.getItems() == null ? List.of() : page.getItems();
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
     }
 }
@@ -0,0 +1,97 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.assistant.dto.TicketView;
+import com.example.assistant_service.config.TicketCacheProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tickets referenced by id in a chat message, fetched by primary key from ticket-service rather
+ * than picked out of the full queue. One id is a GET /tickets/{id}, several share one batch call.
+ * Results, misses included, are reused for the ticket cache TTL. When ticket-service cannot be
+ * reached, expired entries are served instead of failing the chat.
+ */
+@Component
+public class TicketLookup {
+
+    private final TicketClient ticketClient;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public TicketLookup(
+        TicketClient ticketClient,
+        TicketCacheProperties cacheProps,
+        @Value("${assistant.ticket-lookup.max-entries:10000}") int maxEntries
+    ) {
+        this.ticketClient = ticketClient;
+        this.ttlNanos = cacheProps.getTtl().toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public List<TicketView> find(List<Long> ids) {
+        Map<Long, TicketView> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long now = System.nanoTime();
+        for (Long id : ids) {
+            Entry entry = entries.get(id);
+            if (entry == null || now - entry.fetchedAt >= ttlNanos) {
+                missing.add(id);
+            } else if (entry.ticket != null) {
+                found.put(id, entry.ticket);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                List<TicketView> fetched = missing.size() == 1
+                    ? ticketClient.fetchTicket(missing.get(0)).map(List::of).orElse(List.of())
+                    : ticketClient.fetchTickets(missing);
+                for (TicketView ticket : fetched) {
+                    found.put(ticket.getId(), ticket);
+                }
+                remember(missing, found);
+            } catch (RestClientException ex) {
+                for (Long id : missing) {
+                    Entry expired = entries.get(id);
+                    if (expired != null && expired.ticket != null) {
+                        found.put(id, expired.ticket);
+                    }
+                }
+            }
+        }
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    private void remember(List<Long> ids, Map<Long, TicketView> found) {
+        long fetchedAt = System.nanoTime();
+        if (entries.size() + ids.size() > maxEntries) {
+            entries.values().removeIf(entry -> fetchedAt - entry.fetchedAt >= ttlNanos);
+            if (entries.size() + ids.size() > maxEntries) {
+                entries.clear();
+            }
+        }
+        for (Long id : ids) {
+            entries.put(id, new Entry(found.get(id), fetchedAt));
+        }
+    }
+
+    private static final class Entry {
+
+        private final TicketView ticket;
+        private final long fetchedAt;
+
+        private Entry(TicketView ticket, long fetchedAt) {
+            this.ticket = ticket;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
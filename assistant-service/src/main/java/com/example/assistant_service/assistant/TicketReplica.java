@@ -0,0 +1,79 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.assistant.dto.TicketChangesView;
+import com.example.assistant_service.assistant.dto.TicketView;
+import com.example.assistant_service.config.TicketCacheProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Full local copy of ticket-service's queue, kept current from GET /tickets/changes. A sync pulls
+ * only what changed since the last cursor, so steady-state cost follows churn, not queue size.
+ * Changes are folded into {@link TicketAggregates} as they arrive, so readers never rebuild or
+ * scan the whole queue; a reader racing a sync may see part of that sync already applied. A reset
+ * reloads into fresh aggregates that replace the current ones only once the last page is applied,
+ * so readers keep answering from the old copy meanwhile.
+ */
+@Component
+public class TicketReplica {
+
+    private final TicketClient ticketClient;
+    private final int pageSize;
+    private final boolean enabled;
+    private volatile TicketAggregates aggregates = new TicketAggregates();
+    private String cursor;
+
+    public TicketReplica(
+        TicketClient ticketClient,
+        TicketCacheProperties cacheProps,
+        @Value("${assistant.ticket-replica.page-size:500}") int pageSize
+    ) {
+        this.ticketClient = ticketClient;
+        this.pageSize = pageSize;
+        this.enabled = cacheProps.getSource() == TicketCacheProperties.Source.REPLICA;
+    }
+
+    @Scheduled(
+        initialDelayString = "${assistant.ticket-replica.sync-interval:2s}",
+        fixedDelayString = "${assistant.ticket-replica.sync-interval:2s}"
+    )
+    public void scheduledSync() {
+        if (enabled) {
+            sync();
+        }
+    }
+
+    public synchronized TicketAggregates sync() {
+        TicketAggregates current = aggregates;
+        TicketAggregates target = current;
+        String position = cursor;
+        TicketChangesView page;
+        do {
+            page = ticketClient.fetchChanges(position, pageSize);
+            if (page.isResetRequired()) {
+                target = new TicketAggregates();
+                position = null;
+                continue;
+            }
+            for (TicketView ticket : page.getUpserts()) {
+                target.upsert(ticket);
+            }
+            for (Long id : page.getDeletedIds()) {
+                target.remove(id);
+            }
+            position = page.getNextCursor();
+            if (target == current) {
+                cursor = position;
+            }
+        } while (page.isHasMore() || page.isResetRequired());
+        cursor = position;
+        aggregates = target;
+        return target;
+    }
+
+    public TicketAggregates aggregates() {
+        return aggregates;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.config.TicketServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead, circuit breaker and retries around each call to ticket-service.
+ * <ul>
+ *   <li>An attempt needs one of a fixed number of permits and waits at most max-wait for it.</li>
+ *   <li>I/O errors and 5xx answers are retried with full-jitter exponential backoff, as long as
+ *   the next attempt can start before the call's deadline.</li>
+ *   <li>After failure-threshold consecutive failed attempts the circuit opens and calls are refused
+ *   for open-duration; then a single trial attempt decides whether it closes again.</li>
+ * </ul>
+ * Other errors such as 4xx answers mean ticket-service is up, so they count as successes for the
+ * circuit and are not retried.
+ */
+@Component
+public class TicketServiceGuard {
+
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long deadlineNanos;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(CLOSED);
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private final Counter retries;
+    private final Counter circuitRejections;
+    private final Counter bulkheadRejections;
+
+    public TicketServiceGuard(TicketServiceProperties props, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(props.getBulkhead().getMaxConcurrentCalls(), true);
+        this.maxWaitNanos = props.getBulkhead().getMaxWait().toNanos();
+        this.maxAttempts = Math.max(1, props.getRetry().getMaxAttempts());
+        this.initialBackoffNanos = props.getRetry().getInitialBackoff().toNanos();
+        this.maxBackoffNanos = props.getRetry().getMaxBackoff().toNanos();
+        this.deadlineNanos = props.getDeadline().toNanos();
+        this.failureThreshold = Math.max(1, props.getCircuitBreaker().getFailureThreshold());
+        this.openNanos = props.getCircuitBreaker().getOpenDuration().toNanos();
+        this.retries = Counter.builder("ticket.client.retries")
+            .description("Attempts repeated after an I/O error or 5xx answer")
+            .register(meterRegistry);
+        this.circuitRejections = rejections(meterRegistry, "circuit_open");
+        this.bulkheadRejections = rejections(meterRegistry, "bulkhead_full");
+    }
+
+    public <T> T call(String operation, Supplier<T> attempt) {
+        long deadline = System.nanoTime() + deadlineNanos;
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            boolean trial = admit(operation);
+            acquirePermit(operation, trial);
+            try {
+                T result = attempt.get();
+                recordSuccess();
+                return result;
+            } catch (ResourceAccessException | HttpServerErrorException ex) {
+                recordFailure(trial);
+                long backoff = backoff(attemptNumber);
+                if (attemptNumber >= maxAttempts || System.nanoTime() + backoff - deadline >= 0 || !pause(backoff)) {
+                    throw ex;
+                }
+                retries.increment();
+            } catch (RuntimeException ex) {
+                recordSuccess();
+                throw ex;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private boolean admit(String operation) {
+        long opened = openedAt.get();
+        if (opened == CLOSED) {
+            return false;
+        }
+        if (System.nanoTime() - opened >= openNanos && trialInFlight.compareAndSet(false, true)) {
+            return true;
+        }
+        circuitRejections.increment();
+        throw new TicketServiceUnavailableException("Circuit to ticket-service is open, " + operation + " not sent");
+    }
+
+    private void acquirePermit(String operation, boolean trial) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            if (trial) {
+                trialInFlight.set(false);
+            }
+            bulkheadRejections.increment();
+            throw new TicketServiceUnavailableException("Too many concurrent calls to ticket-service, " + operation + " not sent");
+        }
+    }
+
+    private void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (openedAt.get() != CLOSED) {
+            openedAt.set(CLOSED);
+            trialInFlight.set(false);
+        }
+    }
+
+    private void recordFailure(boolean trial) {
+        if (trial || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            consecutiveFailures.set(0);
+            openedAt.set(System.nanoTime());
+            trialInFlight.set(false);
+        }
+    }
+
+    private long backoff(int attemptNumber) {
+        long ceiling = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attemptNumber - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static boolean pause(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ticket.client.rejections")
+            .description("Calls refused without contacting ticket-service")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
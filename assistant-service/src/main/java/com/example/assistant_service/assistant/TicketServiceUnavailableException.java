@@ -0,0 +1,14 @@
+package com.example.assistant_service.assistant;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * A call to ticket-service was refused before it was sent, because the circuit is open or the
+ * bulkhead stayed full for longer than its wait limit.
+ */
+public class TicketServiceUnavailableException extends RestClientException {
+
+    public TicketServiceUnavailableException(String message) {
+        super(message);
+    }
+}
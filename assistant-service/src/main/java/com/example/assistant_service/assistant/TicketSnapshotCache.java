@@ -0,0 +1,151 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.assistant.dto.TicketCacheStats;
+import com.example.assistant_service.config.TicketCacheProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Last ticket aggregates loaded from ticket-service, either by a delta sync of the local replica or
+ * by a full export. Within the TTL a read is a field load; past it the
+ * stale view is served while one background refresh runs, and only a cold or too-stale cache makes
+ * callers wait. Concurrent callers always share a single in-flight fetch. If that fetch fails, for
+ * example because the circuit to ticket-service is open, the last snapshot is served however old.
+ */
+@Component
+public class TicketSnapshotCache {
+
+    private final TicketClient ticketClient;
+    private final TicketReplica ticketReplica;
+    private final TaskExecutor taskExecutor;
+    private final boolean fromReplica;
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder refreshNanosTotal = new LongAdder();
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+
+    public TicketSnapshotCache(
+        TicketClient ticketClient,
+        TicketReplica ticketReplica,
+        @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+        TicketCacheProperties props
+    ) {
+        this.ticketClient = ticketClient;
+        this.ticketReplica = ticketReplica;
+        this.taskExecutor = taskExecutor;
+        this.fromReplica = props.getSource() == TicketCacheProperties.Source.REPLICA;
+        this.ttlNanos = props.getTtl().toNanos();
+        this.maxStaleNanos = Math.max(props.getMaxStale().toNanos(), ttlNanos);
+    }
+
+    public TicketAggregates aggregates() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) {
+            long age = System.nanoTime() - snapshot.fetchedAt;
+            if (age < ttlNanos) {
+                hits.increment();
+                return snapshot.aggregates;
+            }
+            if (age < maxStaleNanos) {
+                staleHits.increment();
+                refresh();
+                return snapshot.aggregates;
+            }
+        }
+        misses.increment();
+        try {
+            return refresh().join().aggregates;
+        } catch (CompletionException ex) {
+            if (snapshot != null) {
+                fallbacks.increment();
+                return snapshot.aggregates;
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public TicketCacheStats stats() {
+        Snapshot snapshot = current.get();
+        long completed = refreshes.sum();
+        return new TicketCacheStats(
+            hits.sum(),
+            staleHits.sum(),
+            misses.sum(),
+            fallbacks.sum(),
+            completed,
+            refreshFailures.sum(),
+            lastRefreshNanos.get() / 1_000_000.0,
+            completed == 0 ? 0 : refreshNanosTotal.sum() / 1_000_000.0 / completed,
+            maxRefreshNanos.get() / 1_000_000.0,
+            snapshot == null ? -1 : (System.nanoTime() - snapshot.fetchedAt) / 1_000_000,
+            snapshot == null ? 0 : snapshot.aggregates.total()
+        );
+    }
+
+    private CompletableFuture<Snapshot> refresh() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot> fetch = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, fetch)) {
+                taskExecutor.execute(() -> load(fetch));
+                return fetch;
+            }
+        }
+    }
+
+    private void load(CompletableFuture<Snapshot> fetch) {
+        long started = System.nanoTime();
+        try {
+            TicketAggregates aggregates = fromReplica ? ticketReplica.sync() : TicketAggregates.of(ticketClient.fetchTickets());
+            Snapshot snapshot = new Snapshot(aggregates, System.nanoTime());
+            current.set(snapshot);
+            record(snapshot.fetchedAt - started);
+            fetch.complete(snapshot);
+        } catch (RuntimeException ex) {
+            refreshFailures.increment();
+            fetch.completeExceptionally(ex);
+        } finally {
+            inFlight.compareAndSet(fetch, null);
+        }
+    }
+
+    private void record(long elapsedNanos) {
+        refreshes.increment();
+        refreshNanosTotal.add(elapsedNanos);
+        lastRefreshNanos.set(elapsedNanos);
+        maxRefreshNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    private static final class Snapshot {
+
+        private final TicketAggregates aggregates;
+        private final long fetchedAt;
+
+        private Snapshot(TicketAggregates aggregates, long fetchedAt) {
+            this.aggregates = aggregates;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
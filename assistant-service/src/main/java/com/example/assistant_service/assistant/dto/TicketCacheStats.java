@@ -0,0 +1,86 @@
+package com.example.assistant_service.assistant.dto;
+
+public class TicketCacheStats {
+
+    private final long hits;
+    private final long staleHits;
+    private final long misses;
+    private final long fallbacks;
+    private final long refreshes;
+    private final long refreshFailures;
+    private final double lastRefreshMillis;
+    private final double averageRefreshMillis;
+    private final double maxRefreshMillis;
+    private final long snapshotAgeMillis;
+    private final int snapshotSize;
+
+    public TicketCacheStats(
+        long hits,
+        long staleHits,
+        long misses,
+        long fallbacks,
+        long refreshes,
+        long refreshFailures,
+        double lastRefreshMillis,
+        double averageRefreshMillis,
+        double maxRefreshMillis,
+        long snapshotAgeMillis,
+        int snapshotSize
+    ) {
+        this.hits = hits;
+        this.staleHits = staleHits;
+        this.misses = misses;
+        this.fallbacks = fallbacks;
+        this.refreshes = refreshes;
+        this.refreshFailures = refreshFailures;
+        this.lastRefreshMillis = lastRefreshMillis;
+        this.averageRefreshMillis = averageRefreshMillis;
+        this.maxRefreshMillis = maxRefreshMillis;
+        this.snapshotAgeMillis = snapshotAgeMillis;
+        this.snapshotSize = snapshotSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getStaleHits() {
+        return staleHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getRefreshFailures() {
+        return refreshFailures;
+    }
+
+    public double getLastRefreshMillis() {
+        return lastRefreshMillis;
+    }
+
+    public double getAverageRefreshMillis() {
+        return averageRefreshMillis;
+    }
+
+    public double getMaxRefreshMillis() {
+        return maxRefreshMillis;
+    }
+
+    public long getSnapshotAgeMillis() {
+        return snapshotAgeMillis;
+    }
+
+    public int getSnapshotSize() {
+        return snapshotSize;
+    }
+}
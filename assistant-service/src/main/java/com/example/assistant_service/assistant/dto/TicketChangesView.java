@@ -0,0 +1,53 @@
+package com.example.assistant_service.assistant.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TicketChangesView {
+
+    private List<TicketView> upserts = new ArrayList<>();
+    private List<Long> deletedIds = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+    private boolean resetRequired;
+
+    public List<TicketView> getUpserts() {
+        return upserts;
+    }
+
+    public void setUpserts(List<TicketView> upserts) {
+        this.upserts = upserts;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isResetRequired() {
+        return resetRequired;
+    }
+
+    public void setResetRequired(boolean resetRequired) {
+        this.resetRequired = resetRequired;
+    }
+}
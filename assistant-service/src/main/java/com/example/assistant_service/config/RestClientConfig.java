@@ -1,16 +1,33 @@
 package com.example.assistant_service.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+
 @Configuration
 @EnableConfigurationProperties(TicketServiceProperties.class)
 public class RestClientConfig {
 
     @Bean
-    public RestClient ticketRestClient(TicketServiceProperties props) {
-        return RestClient.builder().baseUrl(props.getBaseUrl()).build();
+    public RestClient ticketRestClient(TicketServiceProperties props, Environment environment) {
+        HttpClient.Builder httpClient = HttpClient.newBuilder()
+            .version(props.getHttpVersion())
+            .connectTimeout(props.getConnectTimeout());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            httpClient.executor(new VirtualThreadTaskExecutor("ticket-client-"));
+        }
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient.build());
+        requestFactory.setReadTimeout(props.getReadTimeout());
+        return RestClient.builder()
+            .baseUrl(props.getBaseUrl())
+            .requestFactory(requestFactory)
+            .build();
     }
 }
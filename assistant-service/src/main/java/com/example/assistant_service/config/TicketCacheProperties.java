@@ -0,0 +1,39 @@
+package com.example.assistant_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "assistant.ticket-cache")
+public class TicketCacheProperties {
+
+    public enum Source { REPLICA, EXPORT }
+
+    private Source source = Source.REPLICA;
+    private Duration ttl = Duration.ofSeconds(5);
+    private Duration maxStale = Duration.ofMinutes(2);
+
+    public Source getSource() {
+        return source;
+    }
+
+    public void setSource(Source source) {
+        this.source = source;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getMaxStale() {
+        return maxStale;
+    }
+
+    public void setMaxStale(Duration maxStale) {
+        this.maxStale = maxStale;
+    }
+}
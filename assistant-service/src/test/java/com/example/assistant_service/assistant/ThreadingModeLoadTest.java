@@ -0,0 +1,175 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.AssistantServiceApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives /assistant/chat against a ticket-service stub with fixed latency, once on platform threads
+ * and once on virtual threads, and logs throughput and p99 for each. Excluded from the default
+ * build; run with {@code mvn test -P load-test}.
+ */
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeLoadTest.class);
+
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 5000;
+    private static final int CONCURRENCY = 1000;
+    private static final long TICKET_SERVICE_LATENCY_MILLIS = 50;
+
+    private static HttpServer ticketService;
+    private static ExecutorService ticketServiceExecutor;
+
+    @BeforeAll
+    static void startTicketServiceStub() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 200; i++) {
+            ndjson.append("{\"id\":").append(i)
+                .append(",\"title\":\"Ticket ").append(i)
+                .append("\",\"priority\":\"HIGH\",\"status\":\"").append(i % 4 == 0 ? "RESOLVED" : "OPEN")
+                .append("\",\"assignedTo\":\"Agent ").append(i % 7)
+                .append("\",\"slaDueAt\":\"").append(Instant.now().plusSeconds(i * 60L - 3000))
+                .append("\"}\n");
+        }
+        byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        ticketServiceExecutor = Executors.newCachedThreadPool();
+        ticketService = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        ticketService.setExecutor(ticketServiceExecutor);
+        ticketService.createContext("/tickets/export", exchange -> {
+            try {
+                Thread.sleep(TICKET_SERVICE_LATENCY_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        ticketService.start();
+    }
+
+    @AfterAll
+    static void stopTicketServiceStub() {
+        ticketService.stop(0);
+        ticketServiceExecutor.shutdownNow();
+    }
+
+    @Test
+    void comparesPlatformAndVirtualThreads() throws Exception {
+        LoadResult platform = run(false);
+        log.info("platform threads: {}", platform);
+        assertEquals(0, platform.errors, "platform threads: " + platform);
+
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21 or newer");
+        LoadResult virtual = run(true);
+        log.info("virtual threads:  {}", virtual);
+        assertEquals(0, virtual.errors, "virtual threads: " + virtual);
+    }
+
+    private static LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(AssistantServiceApplication.class)
+            .properties(
+                "server.port=0",
+                "assistant.ticket-service.base-url=http://localhost:" + ticketService.getAddress().getPort(),
+                "assistant.ticket-service.wire-format=json",
+                "assistant.ticket-cache.source=export",
+                "assistant.ticket-cache.ttl=0s",
+                "assistant.ticket-cache.max-stale=0s",
+                "spring.threads.virtual.enabled=" + virtualThreads
+            )
+            .run()) {
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI chat = URI.create("http://localhost:" + port + "/assistant/chat");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            fire(client, chat, WARMUP_REQUESTS);
+            return fire(client, chat, REQUESTS);
+        }
+    }
+
+    private static LoadResult fire(HttpClient client, URI chat, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(chat)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"Give me queue summary\"}"))
+            .build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[requests];
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int slot = i;
+            long sentAt = System.nanoTime();
+            calls[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    latencies[slot] = System.nanoTime() - sentAt;
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    inFlight.release();
+                });
+        }
+        CompletableFuture.allOf(calls).exceptionally(ex -> null).join();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new LoadResult(
+            requests * 1_000_000_000.0 / elapsed,
+            latencies[latencies.length / 2] / 1_000_000.0,
+            latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000_000.0,
+            errors.get()
+        );
+    }
+
+    private static final class LoadResult {
+
+        private final double throughput;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final int errors;
+
+        private LoadResult(double throughput, double p50Millis, double p99Millis, int errors) {
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.errors = errors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p50 %.1f ms, p99 %.1f ms, %d errors", throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
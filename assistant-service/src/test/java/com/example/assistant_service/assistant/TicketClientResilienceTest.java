@@ -0,0 +1,185 @@
+package com.example.assistant_service.assistant;
+
+import com.example.assistant_service.assistant.dto.TicketView;
+import com.example.assistant_service.config.TicketServiceProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TicketClient} against a local ticket-service stub whose first answers can be made to fail
+ * or stall: retries, the circuit breaker and per-attempt timeouts, plus conditional re-reads.
+ */
+class TicketClientResilienceTest {
+
+    private static final byte[] TICKET = "{\"id\":1,\"title\":\"Printer down\",\"status\":\"OPEN\",\"priority\":\"HIGH\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int failFirst;
+    private volatile int failStatus = 503;
+    private volatile long delayMillis;
+    private volatile String etag;
+    private final AtomicInteger notModified = new AtomicInteger();
+    private HttpServer ticketService;
+    private TicketServiceProperties props;
+
+    @BeforeEach
+    void startTicketServiceStub() throws IOException {
+        ticketService = HttpServer.create(new InetSocketAddress("localhost", 0), 64);
+        ticketService.setExecutor(Executors.newCachedThreadPool());
+        ticketService.createContext("/tickets/1", this::answer);
+        ticketService.start();
+
+        props = new TicketServiceProperties();
+        props.setBaseUrl("http://localhost:" + ticketService.getAddress().getPort());
+        props.setReadTimeout(Duration.ofMillis(200));
+        props.setHttpVersion(HttpClient.Version.HTTP_1_1);
+        props.setWireFormat(TicketServiceProperties.WireFormat.JSON);
+        props.getRetry().setInitialBackoff(Duration.ofMillis(5));
+        props.getRetry().setMaxBackoff(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void stopTicketServiceStub() {
+        ticketService.stop(0);
+    }
+
+    @Test
+    void retriesServerErrorsUntilAnAttemptSucceeds() {
+        failFirst = 2;
+        TicketClient client = client();
+
+        assertTrue(client.fetchTicket(1).isPresent());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void clientErrorsAreNeitherRetriedNorCountedAgainstTheCircuit() {
+        failFirst = Integer.MAX_VALUE;
+        failStatus = 404;
+        props.getCircuitBreaker().setFailureThreshold(1);
+        TicketClient client = client();
+
+        assertTrue(client.fetchTicket(1).isEmpty());
+        assertTrue(client.fetchTicket(1).isEmpty());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void openCircuitRefusesCallsUntilATrialSucceeds() throws InterruptedException {
+        failFirst = 2;
+        props.getRetry().setMaxAttempts(1);
+        props.getCircuitBreaker().setFailureThreshold(2);
+        props.getCircuitBreaker().setOpenDuration(Duration.ofMillis(200));
+        TicketClient client = client();
+
+        assertThrows(HttpServerErrorException.class, () -> client.fetchTicket(1));
+        assertThrows(HttpServerErrorException.class, () -> client.fetchTicket(1));
+        assertThrows(TicketServiceUnavailableException.class, () -> client.fetchTicket(1));
+        assertEquals(2, requests.get());
+
+        Thread.sleep(250);
+        assertTrue(client.fetchTicket(1).isPresent());
+        assertTrue(client.fetchTicket(1).isPresent());
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void slowAnswersTimeOutPerAttemptAndStopAtTheDeadline() {
+        delayMillis = 500;
+        props.getRetry().setMaxAttempts(5);
+        props.setDeadline(Duration.ofMillis(300));
+        TicketClient client = client();
+
+        long started = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> client.fetchTicket(1));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(requests.get() <= 2, "attempts: " + requests.get());
+        assertTrue(elapsedMillis < 1000, "elapsed: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void unchangedTicketsAreRevalidatedWithTheirEtag() {
+        etag = "W/\"3\"";
+        TicketClient client = client();
+
+        TicketView first = client.fetchTicket(1).orElseThrow();
+        TicketView second = client.fetchTicket(1).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+    }
+
+    private TicketClient client() {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+            HttpClient.newBuilder().version(props.getHttpVersion()).connectTimeout(props.getConnectTimeout()).build()
+        );
+        requestFactory.setReadTimeout(props.getReadTimeout());
+        RestClient restClient = RestClient.builder().baseUrl(props.getBaseUrl()).requestFactory(requestFactory).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new TicketClient(
+            restClient,
+            JsonMapper.builder().build(),
+            CBORMapper.builder().build(),
+            props,
+            new TicketServiceGuard(props, meterRegistry),
+            meterRegistry
+        );
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        int request = requests.incrementAndGet();
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (request <= failFirst) {
+            exchange.sendResponseHeaders(failStatus, -1);
+            exchange.close();
+            return;
+        }
+        if (etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        if (etag != null) {
+            exchange.getResponseHeaders().add("ETag", etag);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, TICKET.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(TICKET);
+        }
+    }
+}
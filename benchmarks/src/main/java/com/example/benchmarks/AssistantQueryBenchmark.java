@@ -0,0 +1,180 @@
+package com.example.benchmarks;
+
+import com.example.assistant_service.assistant.TicketAggregates;
+import com.example.assistant_service.assistant.dto.TicketView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Chat intent cost in assistant-service: the per-message stream scans the service used to run
+ * ({@code legacy*}) against reads from the incrementally maintained {@link TicketAggregates}.
+ * {@code aggregateUpsert} is the write-side price of keeping the aggregates current.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar AssistantQueryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AssistantQueryBenchmark {
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "BLOCKED", "RESOLVED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+
+    @Param({"1000", "100000", "1000000"})
+    public int tickets;
+
+    private List<TicketView> list;
+    private TicketAggregates aggregates;
+    private Instant now;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom seed = new SplittableRandom(42);
+        now = Instant.now();
+        list = new ArrayList<>(tickets);
+        for (long id = 1; id <= tickets; id++) {
+            list.add(ticket(id, seed));
+        }
+        aggregates = TicketAggregates.of(list);
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public long legacyOpenCount() {
+        return list.stream().filter(t -> "OPEN".equals(t.getStatus())).count();
+    }
+
+    @Benchmark
+    public long aggregateOpenCount() {
+        return aggregates.countByStatus("OPEN");
+    }
+
+    @Benchmark
+    public String legacyPrioritySplit() {
+        long critical = list.stream().filter(t -> "CRITICAL".equals(t.getPriority())).count();
+        long high = list.stream().filter(t -> "HIGH".equals(t.getPriority())).count();
+        long medium = list.stream().filter(t -> "MEDIUM".equals(t.getPriority())).count();
+        long low = list.stream().filter(t -> "LOW".equals(t.getPriority())).count();
+        return critical + "," + high + "," + medium + "," + low;
+    }
+
+    @Benchmark
+    public String aggregatePrioritySplit() {
+        return aggregates.countByPriority("CRITICAL") + "," + aggregates.countByPriority("HIGH") + ","
+            + aggregates.countByPriority("MEDIUM") + "," + aggregates.countByPriority("LOW");
+    }
+
+    @Benchmark
+    public String legacyWorkload() {
+        Map<String, Long> byAssignee = list.stream()
+            .filter(t -> !"RESOLVED".equals(t.getStatus()))
+            .collect(Collectors.groupingBy(t -> t.getAssignedTo() == null ? "unassigned" : t.getAssignedTo(), Collectors.counting()));
+        return byAssignee.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .map(e -> e.getKey() + "=" + e.getValue())
+            .collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public String aggregateWorkload() {
+        return aggregates.workload().stream()
+            .map(e -> e.getKey() + "=" + e.getValue())
+            .collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public List<TicketView> legacyBreaches() {
+        return list.stream()
+            .filter(t -> !"RESOLVED".equals(t.getStatus()))
+            .filter(t -> t.getSlaDueAt() != null && t.getSlaDueAt().isBefore(now))
+            .sorted(Comparator.comparing(TicketView::getSlaDueAt))
+            .limit(5)
+            .toList();
+    }
+
+    @Benchmark
+    public List<TicketView> aggregateBreaches() {
+        return aggregates.breached(now, 5);
+    }
+
+    @Benchmark
+    public TicketView legacyNextDue() {
+        return list.stream()
+            .filter(t -> !"RESOLVED".equals(t.getStatus()))
+            .min(Comparator.comparing(TicketView::getSlaDueAt))
+            .orElse(null);
+    }
+
+    @Benchmark
+    public TicketView aggregateNextDue() {
+        return aggregates.nextDue().orElse(null);
+    }
+
+    @Benchmark
+    public String legacySummary() {
+        long open = list.stream().filter(t -> "OPEN".equals(t.getStatus())).count();
+        long inProgress = list.stream().filter(t -> "IN_PROGRESS".equals(t.getStatus())).count();
+        long blocked = list.stream().filter(t -> "BLOCKED".equals(t.getStatus())).count();
+        long resolved = list.stream().filter(t -> "RESOLVED".equals(t.getStatus())).count();
+        long breached = list.stream().filter(t -> !"RESOLVED".equals(t.getStatus()) && t.getSlaDueAt().isBefore(now)).count();
+        long dueSoon = list.stream().filter(t -> !"RESOLVED".equals(t.getStatus()))
+            .map(t -> Duration.between(now, t.getSlaDueAt()).getSeconds())
+            .filter(sec -> sec >= 0 && sec <= 1800)
+            .count();
+        return list.size() + "," + open + "," + inProgress + "," + blocked + "," + resolved + "," + breached + "," + dueSoon;
+    }
+
+    /**
+     * The two SLA counts are sized sub-views of the deadline set, so unlike the other reads this
+     * one is linear in the number of breached or due-soon tickets rather than constant.
+     */
+    @Benchmark
+    public String aggregateSummary() {
+        return aggregates.total() + "," + aggregates.countByStatus("OPEN") + "," + aggregates.countByStatus("IN_PROGRESS") + ","
+            + aggregates.countByStatus("BLOCKED") + "," + aggregates.countByStatus("RESOLVED") + ","
+            + aggregates.countBreached(now) + "," + aggregates.countDueWithin(now, 1800);
+    }
+
+    @Benchmark
+    public int aggregateUpsert() {
+        aggregates.upsert(ticket(1 + random.nextInt(tickets), random));
+        return aggregates.total();
+    }
+
+    private TicketView ticket(long id, SplittableRandom random) {
+        TicketView ticket = new TicketView();
+        ticket.setId(id);
+        ticket.setTitle("Ticket " + id);
+        ticket.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        ticket.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        ticket.setAssignedTo(random.nextInt(10) == 0 ? null : "agent-" + random.nextInt(50));
+        ticket.setSlaDueAt(now.plusSeconds(random.nextInt(8 * 3600) - 2 * 3600));
+        return ticket;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.benchmarks;
+
+import com.example.assistant_service.assistant.ChatIntent;
+import com.example.assistant_service.assistant.IntentMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message routing in assistant-service: the previous chain of {@code containsAny} checks, in the
+ * order the service evaluated them, against one pass of the compiled {@link IntentMatcher}.
+ * The fallback message matches nothing, which is the worst case for the chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntentMatcherBenchmark {
+
+    private static final IntentMatcher<ChatIntent> MATCHER = new IntentMatcher<>(ChatIntent.class, ChatIntent::keywords);
+
+    @Param({
+        "how many open tickets do we have",
+        "what should i handle next?",
+        "give me the queue summary for today please",
+        "tell me something about the weather in the office this afternoon"
+    })
+    public String message;
+
+    @Benchmark
+    public ChatIntent containsAnyChain() {
+        if (containsAny(message, "how many open", "open tickets", "open count")) return ChatIntent.OPEN_COUNT;
+        if (containsAny(message, "how many in progress", "in progress tickets")) return ChatIntent.IN_PROGRESS_COUNT;
+        if (containsAny(message, "how many blocked", "blocked tickets")) return ChatIntent.BLOCKED_COUNT;
+        if (containsAny(message, "how many resolved", "resolved tickets")) return ChatIntent.RESOLVED_COUNT;
+        if (containsAny(message, "priority", "critical", "high")) return ChatIntent.PRIORITY_SPLIT;
+        if (containsAny(message, "breach", "overdue", "escalate")) return ChatIntent.BREACHES;
+        if (containsAny(message, "workload", "owner", "assignee", "agent")) return ChatIntent.WORKLOAD;
+        if (containsAny(message, "next", "what should i do", "action")) return ChatIntent.NEXT_ACTION;
+        if (containsAny(message, "summary", "overview", "dashboard")) return ChatIntent.SUMMARY;
+        return null;
+    }
+
+    @Benchmark
+    public ChatIntent compiledMatcher() {
+        Set<ChatIntent> intents = MATCHER.match(message);
+        if (intents.contains(ChatIntent.OPEN_COUNT)) return ChatIntent.OPEN_COUNT;
+        if (intents.contains(ChatIntent.IN_PROGRESS_COUNT)) return ChatIntent.IN_PROGRESS_COUNT;
+        if (intents.contains(ChatIntent.BLOCKED_COUNT)) return ChatIntent.BLOCKED_COUNT;
+        if (intents.contains(ChatIntent.RESOLVED_COUNT)) return ChatIntent.RESOLVED_COUNT;
+        if (intents.contains(ChatIntent.PRIORITY_SPLIT)) return ChatIntent.PRIORITY_SPLIT;
+        if (intents.contains(ChatIntent.BREACHES)) return ChatIntent.BREACHES;
+        if (intents.contains(ChatIntent.WORKLOAD)) return ChatIntent.WORKLOAD;
+        if (intents.contains(ChatIntent.NEXT_ACTION)) return ChatIntent.NEXT_ACTION;
+        if (intents.contains(ChatIntent.SUMMARY)) return ChatIntent.SUMMARY;
+        return null;
+    }
+
+    private static boolean containsAny(String text, String... keys) {
+        for (String key : keys) {
+            if (text.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
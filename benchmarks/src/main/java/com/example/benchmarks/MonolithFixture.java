@@ -0,0 +1,92 @@
+package com.example.benchmarks;
+
+import com.example.monolith_service.MonolithServiceApplication;
+import com.example.monolith_service.ticket.TicketService;
+import com.example.monolith_service.ticket.dto.TicketBatchStatusItem;
+import com.example.monolith_service.ticket.dto.TicketRequest;
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * monolith-service booted without a web server against its own in-memory H2 database, migrated by
+ * Flyway and seeded through {@link TicketService} so the in-memory counters, SLA index and search
+ * index are built the same way as in production. Settings are passed as command-line arguments
+ * because they must win over the application.properties files on the benchmark classpath.
+ */
+public class MonolithFixture implements AutoCloseable {
+
+    private static final int SEED_CHUNK = 1000;
+
+    private final ConfigurableApplicationContext context;
+    private final List<Long> ticketIds;
+
+    private MonolithFixture(ConfigurableApplicationContext context, List<Long> ticketIds) {
+        this.context = context;
+        this.ticketIds = ticketIds;
+    }
+
+    public static MonolithFixture start(int tickets) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MonolithServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .run(
+                "--spring.profiles.active=benchmark",
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + tickets + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.enabled=true",
+                "--spring.flyway.locations=classpath:db/migration,classpath:db/migration/{vendor}",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.open-in-view=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "--spring.jpa.properties.hibernate.order_inserts=true",
+                "--spring.jpa.properties.hibernate.order_updates=true",
+                "--tickets.summary.source=memory",
+                "--logging.level.root=WARN"
+            );
+        try {
+            return new MonolithFixture(context, seed(context.getBean(TicketService.class), tickets));
+        } catch (RuntimeException ex) {
+            context.close();
+            throw ex;
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public List<Long> ticketIds() {
+        return ticketIds;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static List<Long> seed(TicketService ticketService, int tickets) {
+        TicketDataGenerator generator = new TicketDataGenerator();
+        List<TicketRequest> requests = generator.requests(tickets);
+        List<Long> ids = new ArrayList<>(tickets);
+        for (int start = 0; start < requests.size(); start += SEED_CHUNK) {
+            List<TicketRequest> chunk = requests.subList(start, Math.min(start + SEED_CHUNK, requests.size()));
+            for (TicketResponse created : ticketService.createAll(chunk)) {
+                ids.add(created.getId());
+            }
+        }
+
+        List<TicketBatchStatusItem> changes = generator.statusChanges(ids);
+        for (int start = 0; start < changes.size(); start += SEED_CHUNK) {
+            ticketService.updateStatuses(changes.subList(start, Math.min(start + SEED_CHUNK, changes.size())));
+        }
+        return List.copyOf(ids);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmarks;
+
+import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketStatus;
+import com.example.monolith_service.ticket.dto.TicketBatchStatusItem;
+import com.example.monolith_service.ticket.dto.TicketRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible ticket dataset: the same seed and size always give the same titles, customers,
+ * priorities, assignees, SLA offsets and final statuses, so results from different runs compare
+ * like for like. Roughly a quarter of the SLAs start in the past to exercise breach paths.
+ */
+public class TicketDataGenerator {
+
+    public static final long DEFAULT_SEED = 20240501L;
+
+    private static final String[] SUBJECTS = {
+        "Printer", "VPN", "Laptop", "Email", "Payroll", "Badge reader", "Wi-Fi", "Invoice", "Password", "Monitor"
+    };
+    private static final String[] PROBLEMS = {
+        "offline", "not syncing", "keeps crashing", "access denied", "very slow", "missing data", "error on login", "needs replacement"
+    };
+    private static final String[] SITES = {"Austin", "Berlin", "Chennai", "Dublin", "Seattle", "Toronto"};
+    private static final int AGENTS = 25;
+
+    private final long seed;
+
+    public TicketDataGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public TicketDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public List<TicketRequest> requests(int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<TicketRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+            String problem = PROBLEMS[random.nextInt(PROBLEMS.length)];
+            String site = SITES[random.nextInt(SITES.length)];
+
+            TicketRequest request = new TicketRequest();
+            request.setTitle(subject + " " + problem + " in " + site);
+            request.setDescription("Customer reports: " + subject.toLowerCase() + " " + problem + " since this morning at the " + site + " office.");
+            request.setCustomerName("Customer " + (i % 5000));
+            request.setCustomerEmail("customer" + (i % 5000) + "@example.com");
+            request.setPriority(priority(random.nextInt(100)));
+            request.setAssignedTo(random.nextInt(10) == 0 ? null : "agent-" + random.nextInt(AGENTS));
+            request.setSlaMinutes(random.nextInt(24 * 60 + 240) - 240);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    /**
+     * Status moves that bring freshly created (OPEN) tickets to the dataset's final mix of about
+     * 40% open, 25% in progress, 10% blocked and 25% resolved. Ids are those returned by creation,
+     * in creation order.
+     */
+    public List<TicketBatchStatusItem> statusChanges(List<Long> ids) {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        List<TicketBatchStatusItem> changes = new ArrayList<>();
+        for (Long id : ids) {
+            TicketStatus status = status(random.nextInt(100));
+            if (status != TicketStatus.OPEN) {
+                TicketBatchStatusItem item = new TicketBatchStatusItem();
+                item.setId(id);
+                item.setStatus(status);
+                changes.add(item);
+            }
+        }
+        return changes;
+    }
+
+    private static TicketPriority priority(int roll) {
+        if (roll < 10) return TicketPriority.CRITICAL;
+        if (roll < 35) return TicketPriority.HIGH;
+        if (roll < 75) return TicketPriority.MEDIUM;
+        return TicketPriority.LOW;
+    }
+
+    private static TicketStatus status(int roll) {
+        if (roll < 40) return TicketStatus.OPEN;
+        if (roll < 65) return TicketStatus.IN_PROGRESS;
+        if (roll < 75) return TicketStatus.BLOCKED;
+        return TicketStatus.RESOLVED;
+    }
+}
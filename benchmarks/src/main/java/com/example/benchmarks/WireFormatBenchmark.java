@@ -0,0 +1,124 @@
+package com.example.benchmarks;
+
+import com.example.assistant_service.assistant.dto.TicketView;
+import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketStatus;
+import com.example.monolith_service.ticket.dto.TicketFields;
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ticket export stream between ticket-service and assistant-service: JSON against CBOR, with
+ * every field or only the ones {@link TicketView} reads. Payload sizes are printed at setup;
+ * {@code decode} is the assistant side of a snapshot refresh.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar WireFormatBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final String VIEW_FIELDS = "id,title,priority,status,assignedTo,slaDueAt";
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"all", "view"})
+    public String fields;
+
+    @Param({"1000", "20000"})
+    public int tickets;
+
+    private ObjectMapper mapper;
+    private List<TicketResponse> responses;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = "cbor".equals(format) ? CBORMapper.builder().build() : JsonMapper.builder().build();
+        TicketFields projection = TicketFields.parse("view".equals(fields) ? VIEW_FIELDS : null);
+        SplittableRandom random = new SplittableRandom(TicketDataGenerator.DEFAULT_SEED);
+        Instant now = Instant.now();
+        responses = new ArrayList<>(tickets);
+        for (long id = 1; id <= tickets; id++) {
+            responses.add(ticket(id, now, random).withFields(projection));
+        }
+        payload = encode();
+        System.out.printf("%n%s/%s: %d bytes for %d tickets (%.1f per ticket)%n",
+            format, fields, payload.length, tickets, (double) payload.length / tickets);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter writer = mapper.writer().writeValues(out)) {
+            for (TicketResponse response : responses) {
+                writer.write(response);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public List<TicketView> decode() {
+        List<TicketView> views = new ArrayList<>(tickets);
+        try (MappingIterator<TicketView> values = mapper.readerFor(TicketView.class).readValues(payload)) {
+            while (values.hasNext()) {
+                views.add(values.next());
+            }
+        }
+        return views;
+    }
+
+    private static TicketResponse ticket(long id, Instant now, SplittableRandom random) {
+        Instant createdAt = now.minusSeconds(random.nextInt(7 * 24 * 3600));
+        Instant slaDueAt = now.plusSeconds(random.nextInt(24 * 3600) - 4 * 3600);
+        return new TicketResponse(
+            id,
+            "Printer offline in Berlin #" + id,
+            "Customer reports: printer offline since this morning at the Berlin office.",
+            "Customer " + (id % 5000),
+            "customer" + (id % 5000) + "@example.com",
+            PRIORITIES[random.nextInt(PRIORITIES.length)],
+            STATUSES[random.nextInt(STATUSES.length)],
+            random.nextInt(10) == 0 ? null : "agent-" + random.nextInt(25),
+            slaDueAt,
+            createdAt,
+            createdAt.plusSeconds(random.nextInt(3600)),
+            (long) random.nextInt(5),
+            slaDueAt.getEpochSecond() - now.getEpochSecond(),
+            slaDueAt.isBefore(now)
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.monolith_service.assistant;
+
+import com.example.benchmarks.MonolithFixture;
+import com.example.monolith_service.assistant.dto.ChatResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * monolith-service {@link AssistantService#chat} for one representative message per intent,
+ * against a seeded in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AssistantChatBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int tickets;
+
+    @Param({
+        "OPEN_COUNT", "IN_PROGRESS_COUNT", "BLOCKED_COUNT", "RESOLVED_COUNT", "PRIORITY_SPLIT", "BREACHES",
+        "DUE_SOON", "WORKLOAD", "SUMMARY", "NEXT_ACTION", "TICKET_STATUS", "TICKET_SLA", "MULTI_TICKET", "FALLBACK"
+    })
+    public String intent;
+
+    private MonolithFixture fixture;
+    private AssistantService assistantService;
+    private String message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = MonolithFixture.start(tickets);
+        assistantService = fixture.bean(AssistantService.class);
+        message = message(intent, fixture.ticketIds());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public ChatResponse chat() {
+        return assistantService.chat(message);
+    }
+
+    private static String message(String intent, List<Long> ids) {
+        long id = ids.get(ids.size() / 2);
+        return switch (intent) {
+            case "OPEN_COUNT" -> "How many open tickets?";
+            case "IN_PROGRESS_COUNT" -> "How many in progress tickets?";
+            case "BLOCKED_COUNT" -> "How many blocked tickets?";
+            case "RESOLVED_COUNT" -> "How many resolved tickets?";
+            case "PRIORITY_SPLIT" -> "Priority split";
+            case "BREACHES" -> "Show SLA breaches";
+            case "DUE_SOON" -> "What is due soon?";
+            case "WORKLOAD" -> "Who has most workload?";
+            case "SUMMARY" -> "Give me queue summary";
+            case "NEXT_ACTION" -> "What should I handle next?";
+            case "TICKET_STATUS" -> "Status of ticket #" + id;
+            case "TICKET_SLA" -> "SLA of #" + id;
+            case "MULTI_TICKET" -> "Status of #" + ids.get(0) + ", #" + id + " and #" + ids.get(ids.size() - 1);
+            case "FALLBACK" -> "Hello there";
+            default -> throw new IllegalArgumentException("Unknown intent: " + intent);
+        };
+    }
+}
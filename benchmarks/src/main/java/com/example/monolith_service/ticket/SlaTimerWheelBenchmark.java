@@ -0,0 +1,86 @@
+package com.example.monolith_service.ticket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SLA timing wheel with {@code timers} tickets armed over the next week: moving one ticket's
+ * deadline and cancelling and re-arming one, which should stay flat as the wheel grows, and
+ * advancing one second, which cascades and fires only the timers in that second's slots.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar SlaTimerWheelBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlaTimerWheelBenchmark {
+
+    private static final int WEEK_SECONDS = 7 * 24 * 3600;
+
+    @Param({"100000", "500000"})
+    public int timers;
+
+    private SlaTimerWheel wheel;
+    private SlaTimerWheel.Timer[] armed;
+    private SplittableRandom random;
+    private long now;
+    private int fired;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        now = SlaClock.nowEpochSecond();
+        wheel = new SlaTimerWheel(now);
+        armed = new SlaTimerWheel.Timer[timers];
+        for (int i = 0; i < timers; i++) {
+            armed[i] = new SlaTimerWheel.Timer();
+            wheel.schedule(armed[i], now + 1 + random.nextInt(WEEK_SECONDS));
+        }
+    }
+
+    @Benchmark
+    public int reschedule() {
+        SlaTimerWheel.Timer timer = armed[random.nextInt(timers)];
+        wheel.schedule(timer, now + 1 + random.nextInt(WEEK_SECONDS));
+        return wheel.size();
+    }
+
+    @Benchmark
+    public int cancelAndArm() {
+        SlaTimerWheel.Timer timer = armed[random.nextInt(timers)];
+        wheel.cancel(timer);
+        wheel.schedule(timer, now + 1 + random.nextInt(WEEK_SECONDS));
+        return wheel.size();
+    }
+
+    /**
+     * Fired timers are re-armed a week out, so the wheel keeps its size across iterations.
+     */
+    @Benchmark
+    public int advanceOneSecond() {
+        now++;
+        wheel.advanceTo(now, timer -> {
+            fired++;
+            wheel.schedule(timer, now + WEEK_SECONDS);
+        });
+        return fired;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.monolith_service.ticket;
+
+import com.example.benchmarks.MonolithFixture;
+import com.example.monolith_service.ticket.dto.TicketPageResponse;
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import com.example.monolith_service.ticket.dto.TicketSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticket read paths of monolith-service against a seeded in-memory H2 database. Lives in the
+ * service's package so it can call the package-private mapping and specification helpers.
+ * {@code legacyRenderPage} is the per-row {@code Instant}/{@code Duration} mapping that
+ * {@code renderPage} replaced; compare their allocation rates with the GC profiler:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar "TicketServiceBenchmark.*RenderPage" -p tickets=1000 -prof gc
+ * </pre>
+ *
+ * {@code listPage} and {@code entityPage} load an uncached page of 100 as listings do by default
+ * and as {@code fields=description} does, through the repository's read-only transactions:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar "TicketServiceBenchmark.*(list|entity)Page" -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TicketServiceBenchmark {
+
+    private static final PageRequest PAGE_OF_100 = PageRequest.of(0, 100, Sort.by("updatedAt").descending());
+
+    @Param({"1000", "10000", "100000"})
+    public int tickets;
+
+    private MonolithFixture fixture;
+    private TicketService ticketService;
+    private JsonMapper jsonMapper;
+    private Ticket sample;
+    private TicketPageResponse page;
+    private List<Ticket> rows;
+    private TicketRepository ticketRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = MonolithFixture.start(tickets);
+        ticketService = fixture.bean(TicketService.class);
+        jsonMapper = fixture.bean(JsonMapper.class);
+        List<Long> ids = fixture.ticketIds();
+        sample = fixture.bean(TicketRepository.class).findById(ids.get(ids.size() / 2)).orElseThrow();
+        page = ticketService.getAll(0, 100, "id", "asc", null, null, null, false);
+        ticketRepository = fixture.bean(TicketRepository.class);
+        rows = ticketRepository.findAll(PageRequest.of(0, 100, Sort.by("id"))).getContent();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public TicketResponse toResponse() {
+        return ticketService.toResponse(sample);
+    }
+
+    @Benchmark
+    public List<TicketResponse> renderPage() {
+        return ticketService.toResponses(rows);
+    }
+
+    @Benchmark
+    public List<TicketResponse> legacyRenderPage() {
+        return rows.stream().map(TicketServiceBenchmark::legacyResponse).toList();
+    }
+
+    @Benchmark
+    public TicketPageResponse cachedPageAtTime() {
+        return page.atTime(SlaClock.nowEpochSecond());
+    }
+
+    @Benchmark
+    public List<TicketResponse> listPage() {
+        return ticketService.toListResponses(
+            ticketRepository.findListRows(ticketService.buildSpecification(null, null, null), PAGE_OF_100).getContent());
+    }
+
+    @Benchmark
+    public List<TicketResponse> entityPage() {
+        return ticketService.toResponses(
+            ticketRepository.findAll(ticketService.buildSpecification(null, null, null), PAGE_OF_100).getContent());
+    }
+
+    @Benchmark
+    public TicketSummaryResponse summary() {
+        return ticketService.summary();
+    }
+
+    @Benchmark
+    public Specification<Ticket> buildSpecification() {
+        return ticketService.buildSpecification("printer offline", TicketStatus.OPEN, TicketPriority.HIGH);
+    }
+
+    @Benchmark
+    public TicketPageResponse getAllFirstPage() {
+        return ticketService.getAll(0, 20, "id", "asc", null, null, null, false);
+    }
+
+    @Benchmark
+    public TicketPageResponse getAllFiltered() {
+        return ticketService.getAll(0, 20, "slaDueAt", "asc", "printer offline", TicketStatus.OPEN, TicketPriority.HIGH, false);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    private static TicketResponse legacyResponse(Ticket ticket) {
+        long remaining = Duration.between(Instant.now(), ticket.getSlaDueAt()).getSeconds();
+        return new TicketResponse(
+            ticket.getId(),
+            ticket.getTitle(),
+            ticket.getDescription(),
+            ticket.getCustomerName(),
+            ticket.getCustomerEmail(),
+            ticket.getPriority(),
+            ticket.getStatus(),
+            ticket.getAssignedTo(),
+            ticket.getSlaDueAt(),
+            ticket.getCreatedAt(),
+            ticket.getUpdatedAt(),
+            ticket.getVersion(),
+            remaining,
+            remaining < 0 && ticket.getStatus() != TicketStatus.RESOLVED
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts for one operation. Latency runs from the request's scheduled start,
+ * not from when it was actually sent, so a stalled server shows up in the percentiles instead of
+ * silently lowering the offered load (coordinated omission).
+ */
+public class EndpointStats {
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public void record(long latencyNanos, boolean failed) {
+        latencyMicros.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
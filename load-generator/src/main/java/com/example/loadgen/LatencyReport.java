@@ -0,0 +1,69 @@
+package com.example.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/** Per-operation throughput and latency percentiles, plus optional .hgrm files for plotting. */
+public class LatencyReport {
+
+    private static final String ROW = "%-28s %9s %8s %8s %10s %9s %9s %9s %9s %9s%n";
+
+    private final Map<Operation, EndpointStats> stats;
+    private final Duration measured;
+
+    public LatencyReport(Map<Operation, EndpointStats> stats, Duration measured) {
+        this.stats = stats;
+        this.measured = measured;
+    }
+
+    public void print(PrintStream out) {
+        double seconds = measured.toMillis() / 1000d;
+        out.printf(ROW, "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            Histogram latency = endpoint.getLatencyMicros().copy();
+            all.add(latency);
+            errors += endpoint.getErrors();
+            dropped += endpoint.getDropped();
+            row(out, entry.getKey().getEndpoint(), latency, endpoint.getErrors(), endpoint.getDropped(), seconds);
+        }
+        row(out, "total", all, errors, dropped, seconds);
+    }
+
+    public void writeHistograms(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            Path file = dir.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().getLatencyMicros().copy().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void row(PrintStream out, String name, Histogram latency, long errors, long dropped, double seconds) {
+        out.printf(ROW,
+            name,
+            latency.getTotalCount(),
+            errors,
+            dropped,
+            String.format("%.1f", latency.getTotalCount() / seconds),
+            millis(latency.getValueAtPercentile(50)),
+            millis(latency.getValueAtPercentile(90)),
+            millis(latency.getValueAtPercentile(99)),
+            millis(latency.getValueAtPercentile(99.9)),
+            millis(latency.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000d);
+    }
+}
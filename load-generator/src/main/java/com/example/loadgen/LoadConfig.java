@@ -0,0 +1,127 @@
+package com.example.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command-line settings, given as {@code --name=value}. Every setting has a default that targets
+ * ticket-service and assistant-service started locally with the dev profile.
+ */
+public class LoadConfig {
+
+    public enum Arrival { POISSON, CONSTANT }
+
+    private static final String DEFAULT_MIX = "list=25,search=5,summary=10,get=20,status=8,assign=4,create=3,chat=25";
+
+    private final URI ticketUrl;
+    private final URI assistantUrl;
+    private final int seedTickets;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final Arrival arrival;
+    private final long seed;
+    private final int maxInFlight;
+    private final Path histogramDir;
+
+    private LoadConfig(Map<String, String> values) {
+        this.ticketUrl = URI.create(stripSlash(values.getOrDefault("ticket-url", "http://localhost:8081")));
+        this.assistantUrl = URI.create(stripSlash(values.getOrDefault("assistant-url", "http://localhost:8082")));
+        this.seedTickets = Integer.parseInt(values.getOrDefault("seed-tickets", "10000"));
+        this.rate = Double.parseDouble(values.getOrDefault("rate", "200"));
+        this.warmup = Duration.parse("PT" + values.getOrDefault("warmup", "10s"));
+        this.duration = Duration.parse("PT" + values.getOrDefault("duration", "60s"));
+        this.mix = parseMix(values.getOrDefault("mix", DEFAULT_MIX));
+        this.arrival = Arrival.valueOf(values.getOrDefault("arrival", "poisson").toUpperCase(Locale.ROOT));
+        this.seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        this.maxInFlight = Integer.parseInt(values.getOrDefault("max-in-flight", "1000"));
+        this.histogramDir = values.containsKey("histogram-dir") ? Path.of(values.get("histogram-dir")) : null;
+        if (seedTickets < 0 || rate <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("seed-tickets must be >= 0, rate and max-in-flight must be > 0");
+        }
+    }
+
+    public static LoadConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadConfig(values);
+    }
+
+    public URI getTicketUrl() {
+        return ticketUrl;
+    }
+
+    public URI getAssistantUrl() {
+        return assistantUrl;
+    }
+
+    public int getSeedTickets() {
+        return seedTickets;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public Arrival getArrival() {
+        return arrival;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Path getHistogramDir() {
+        return histogramDir;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like name=weight but got: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.from(pair[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+        }
+        return mix;
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
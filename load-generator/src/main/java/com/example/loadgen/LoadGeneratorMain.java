@@ -0,0 +1,56 @@
+package com.example.loadgen;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds a locally running ticket-service (or monolith-service) with a synthetic queue, then drives
+ * an open-loop mix of ticket and assistant calls and prints per-endpoint latency percentiles.
+ * Only talks to the configured URLs, so it runs offline against the H2 dev profile.
+ *
+ * <pre>
+ * java -jar target/load-generator.jar --seed-tickets=20000 --rate=300 --duration=2m
+ * java -jar target/load-generator.jar --ticket-url=http://localhost:8080 --assistant-url=http://localhost:8080
+ * </pre>
+ */
+public final class LoadGeneratorMain {
+
+    private LoadGeneratorMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        TicketWorkload workload = new TicketWorkload();
+        WorkloadSeeder seeder = new WorkloadSeeder(httpClient, jsonMapper, config.getTicketUrl(), workload);
+
+        long seedingStarted = System.nanoTime();
+        List<Long> ids = config.getSeedTickets() > 0
+            ? seeder.seed(config.getSeedTickets(), config.getSeed())
+            : seeder.existingIds();
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No tickets to work with; use --seed-tickets to create some");
+        }
+        System.out.printf("Using %d tickets (prepared in %d ms)%n", ids.size(), (System.nanoTime() - seedingStarted) / 1_000_000);
+        System.out.printf("Offering %.0f req/s (%s arrivals) for %ds after %ds warmup, mix %s%n",
+            config.getRate(), config.getArrival().name().toLowerCase(), config.getDuration().toSeconds(),
+            config.getWarmup().toSeconds(), config.getMix());
+
+        RequestFactory requests = new RequestFactory(config.getTicketUrl(), config.getAssistantUrl(), ids, workload, jsonMapper);
+        Map<Operation, EndpointStats> stats = new OpenLoopDriver(httpClient, requests, config).run();
+
+        LatencyReport report = new LatencyReport(stats, config.getDuration());
+        report.print(System.out);
+        if (config.getHistogramDir() != null) {
+            report.writeHistograms(config.getHistogramDir());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.loadgen;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues requests on a fixed schedule of arrivals, independent of how fast responses come back.
+ * A slow server therefore builds up in-flight requests and latency instead of throttling the
+ * generator. Requests beyond the in-flight cap are counted as dropped rather than delayed.
+ */
+public class OpenLoopDriver {
+
+    private final HttpClient httpClient;
+    private final RequestFactory requestFactory;
+    private final LoadConfig config;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    public OpenLoopDriver(HttpClient httpClient, RequestFactory requestFactory, LoadConfig config) {
+        this.httpClient = httpClient;
+        this.requestFactory = requestFactory;
+        this.config = config;
+        this.operations = config.getMix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.getMix().get(operations[i]);
+            cumulativeWeights[i] = total;
+            stats.put(operations[i], new EndpointStats());
+        }
+    }
+
+    /** Runs warmup plus measurement and returns the per-operation results of the measured part. */
+    public Map<Operation, EndpointStats> run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.getSeed());
+        Semaphore inFlight = new Semaphore(config.getMaxInFlight());
+        double meanGapNanos = 1_000_000_000d / config.getRate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.getWarmup().toNanos();
+        long end = measureFrom + config.getDuration().toNanos();
+        long next = start;
+        while (next < end) {
+            waitUntil(next);
+            long scheduled = next;
+            boolean measured = scheduled >= measureFrom;
+            Operation operation = pick(random);
+            HttpRequest request = requestFactory.build(operation, random);
+            EndpointStats endpoint = stats.get(operation);
+
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    endpoint.recordDropped();
+                }
+            } else {
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.release();
+                        if (measured) {
+                            boolean failed = failure != null || response.statusCode() >= 400;
+                            endpoint.record(System.nanoTime() - scheduled, failed);
+                        }
+                    });
+            }
+            next += gap(random, meanGapNanos);
+        }
+
+        if (!inFlight.tryAcquire(config.getMaxInFlight(), 60, TimeUnit.SECONDS)) {
+            System.err.println("Some requests were still in flight after 60s and are missing from the results");
+        }
+        return stats;
+    }
+
+    private long gap(SplittableRandom random, double meanGapNanos) {
+        if (config.getArrival() == LoadConfig.Arrival.CONSTANT) {
+            return Math.max(1, (long) meanGapNanos);
+        }
+        return Math.max(1, (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos));
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
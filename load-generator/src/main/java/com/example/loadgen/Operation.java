@@ -0,0 +1,36 @@
+package com.example.loadgen;
+
+import java.util.Locale;
+
+/**
+ * Calls the generator can issue. The mix is configured by these names, e.g.
+ * {@code --mix=list=30,get=20,chat=25}.
+ */
+public enum Operation {
+    LIST("GET /tickets"),
+    SEARCH("GET /tickets?search"),
+    SUMMARY("GET /tickets/summary"),
+    GET("GET /tickets/{id}"),
+    UPDATE_STATUS("PATCH /tickets/{id}/status"),
+    ASSIGN("PATCH /tickets/{id}/assign"),
+    CREATE("POST /tickets"),
+    CHAT("POST /assistant/chat");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation from(String name) {
+        String normalized = name.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        if ("STATUS".equals(normalized)) {
+            return UPDATE_STATUS;
+        }
+        return Operation.valueOf(normalized);
+    }
+}
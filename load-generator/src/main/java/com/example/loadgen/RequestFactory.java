@@ -0,0 +1,95 @@
+package com.example.loadgen;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Builds one request per operation with randomized but valid arguments. Ticket ids are drawn from
+ * the seeded tickets, so reads and writes hit rows that exist.
+ */
+public class RequestFactory {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] SORTS = {"id", "slaDueAt", "priority", "createdAt"};
+    private static final String[] SEARCHES = {"printer offline", "vpn", "payroll missing data", "login", "berlin", "laptop crashing"};
+    private static final String[] QUESTIONS = {
+        "How many open tickets?",
+        "Give me queue summary",
+        "Show SLA breaches",
+        "Who has most workload?",
+        "What should I handle next?",
+        "Priority split",
+        "What is due soon?"
+    };
+
+    private final URI ticketUrl;
+    private final URI assistantUrl;
+    private final List<Long> ticketIds;
+    private final TicketWorkload workload;
+    private final JsonMapper jsonMapper;
+
+    public RequestFactory(URI ticketUrl, URI assistantUrl, List<Long> ticketIds, TicketWorkload workload, JsonMapper jsonMapper) {
+        this.ticketUrl = ticketUrl;
+        this.assistantUrl = assistantUrl;
+        this.ticketIds = ticketIds;
+        this.workload = workload;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public HttpRequest build(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case LIST -> get(ticketUrl, "/tickets?page=" + random.nextInt(5) + "&size=20&sortBy="
+                + SORTS[random.nextInt(SORTS.length)] + "&direction=" + (random.nextBoolean() ? "asc" : "desc"));
+            case SEARCH -> get(ticketUrl, "/tickets?size=20&sortBy=relevance&search="
+                + URLEncoder.encode(SEARCHES[random.nextInt(SEARCHES.length)], StandardCharsets.UTF_8));
+            case SUMMARY -> get(ticketUrl, "/tickets/summary");
+            case GET -> get(ticketUrl, "/tickets/" + ticketId(random));
+            case UPDATE_STATUS -> send(ticketUrl, "PATCH", "/tickets/" + ticketId(random) + "/status",
+                Map.of("status", TicketWorkload.STATUSES[random.nextInt(TicketWorkload.STATUSES.length)]));
+            case ASSIGN -> send(ticketUrl, "PATCH", "/tickets/" + ticketId(random) + "/assign",
+                Map.of("assignedTo", workload.agent(random)));
+            case CREATE -> send(ticketUrl, "POST", "/tickets", workload.ticket(random, random.nextInt(5000)));
+            case CHAT -> send(assistantUrl, "POST", "/assistant/chat", Map.of("message", question(random)));
+        };
+    }
+
+    private String question(SplittableRandom random) {
+        int roll = random.nextInt(QUESTIONS.length + 2);
+        if (roll == QUESTIONS.length) {
+            return "Status of ticket #" + ticketId(random);
+        }
+        if (roll == QUESTIONS.length + 1) {
+            return "SLA of #" + ticketId(random);
+        }
+        return QUESTIONS[roll];
+    }
+
+    private long ticketId(SplittableRandom random) {
+        return ticketIds.get(random.nextInt(ticketIds.size()));
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        return HttpRequest.newBuilder(URI.create(base + path))
+            .timeout(TIMEOUT)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+    }
+
+    private HttpRequest send(URI base, String method, String path, Object body) {
+        return HttpRequest.newBuilder(URI.create(base + path))
+            .timeout(TIMEOUT)
+            .header("Accept", "application/json")
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)))
+            .build();
+    }
+}
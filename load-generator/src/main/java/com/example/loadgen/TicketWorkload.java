@@ -0,0 +1,93 @@
+package com.example.loadgen;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic but production-shaped tickets. Priorities skew towards medium, SLA windows follow
+ * priority, a few agents carry most of the assigned work (Zipf) and some tickets stay unassigned.
+ * Everything derives from the seed, so two runs with the same settings see the same queue.
+ */
+public class TicketWorkload {
+
+    static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "BLOCKED", "RESOLVED"};
+
+    private static final String[] SUBJECTS = {
+        "Printer", "VPN", "Laptop", "Email", "Payroll", "Badge reader", "Wi-Fi", "Invoice", "Password", "Monitor", "CRM", "Phone"
+    };
+    private static final String[] PROBLEMS = {
+        "offline", "not syncing", "keeps crashing", "access denied", "very slow", "missing data", "error on login", "needs replacement"
+    };
+    private static final String[] SITES = {"Austin", "Berlin", "Chennai", "Dublin", "Seattle", "Toronto", "Sydney"};
+    private static final int AGENTS = 30;
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final double[] agentCdf = zipfCdf(AGENTS, ZIPF_EXPONENT);
+
+    public Map<String, Object> ticket(SplittableRandom random, int customer) {
+        String priority = priority(random);
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        String problem = PROBLEMS[random.nextInt(PROBLEMS.length)];
+        String site = SITES[random.nextInt(SITES.length)];
+
+        Map<String, Object> ticket = new LinkedHashMap<>();
+        ticket.put("title", subject + " " + problem + " in " + site);
+        ticket.put("description", "Customer reports: " + subject.toLowerCase() + " " + problem + " at the " + site + " office.");
+        ticket.put("customerName", "Customer " + customer);
+        ticket.put("customerEmail", "customer" + customer + "@example.com");
+        ticket.put("priority", priority);
+        ticket.put("assignedTo", random.nextInt(100) < 12 ? null : agent(random));
+        ticket.put("slaMinutes", slaMinutes(priority, random));
+        return ticket;
+    }
+
+    public String agent(SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < agentCdf.length; i++) {
+            if (roll <= agentCdf[i]) {
+                return "agent-" + i;
+            }
+        }
+        return "agent-" + (AGENTS - 1);
+    }
+
+    /** Final status of a seeded ticket: about 35% open, 30% in progress, 8% blocked, 27% resolved. */
+    public String status(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 35) return "OPEN";
+        if (roll < 65) return "IN_PROGRESS";
+        if (roll < 73) return "BLOCKED";
+        return "RESOLVED";
+    }
+
+    private static String priority(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 8) return "CRITICAL";
+        if (roll < 30) return "HIGH";
+        if (roll < 75) return "MEDIUM";
+        return "LOW";
+    }
+
+    private static int slaMinutes(String priority, SplittableRandom random) {
+        return switch (priority) {
+            case "CRITICAL" -> 5 + random.nextInt(55);
+            case "HIGH" -> 60 + random.nextInt(180);
+            case "MEDIUM" -> 240 + random.nextInt(1200);
+            default -> 1440 + random.nextInt(2880);
+        };
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += 1 / Math.pow(i + 1, exponent);
+            cdf[i] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= total;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loadgen;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the ticket queue through the public batch endpoints, then moves tickets to their final
+ * status so the run starts from a realistic mix rather than an all-open queue.
+ */
+public class WorkloadSeeder {
+
+    private static final int CHUNK = 1000;
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final URI ticketUrl;
+    private final TicketWorkload workload;
+
+    public WorkloadSeeder(HttpClient httpClient, JsonMapper jsonMapper, URI ticketUrl, TicketWorkload workload) {
+        this.httpClient = httpClient;
+        this.jsonMapper = jsonMapper;
+        this.ticketUrl = ticketUrl;
+        this.workload = workload;
+    }
+
+    public List<Long> seed(int count, long seed) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Long> ids = new ArrayList<>(count);
+        for (int start = 0; start < count; start += CHUNK) {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (int i = start; i < Math.min(start + CHUNK, count); i++) {
+                items.add(workload.ticket(random, i % 5000));
+            }
+            JsonNode created = send("POST", "/tickets/batch", Map.of("items", items));
+            for (JsonNode item : created.path("items")) {
+                ids.add(item.path("id").asLong());
+            }
+        }
+
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (Long id : ids) {
+            String status = workload.status(random);
+            if (!"OPEN".equals(status)) {
+                Map<String, Object> change = new LinkedHashMap<>();
+                change.put("id", id);
+                change.put("status", status);
+                changes.add(change);
+            }
+        }
+        for (int start = 0; start < changes.size(); start += CHUNK) {
+            send("PATCH", "/tickets/batch/status", Map.of("items", changes.subList(start, Math.min(start + CHUNK, changes.size()))));
+        }
+        return ids;
+    }
+
+    /** Ids of tickets already in the queue, for runs that skip seeding. */
+    public List<Long> existingIds() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ticketUrl + "/tickets/export?format=ndjson")).GET().build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() >= 400) {
+            throw new IOException("Ticket export failed with status " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (!line.isBlank()) {
+                    ids.add(jsonMapper.readTree(line).path("id").asLong());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ticketUrl + path))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IOException(method + " " + path + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return jsonMapper.readTree(response.body());
+    }
+}
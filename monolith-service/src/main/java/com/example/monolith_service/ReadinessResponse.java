@@ -0,0 +1,65 @@
+package com.example.monolith_service;
+
+import java.util.List;
+
+/**
+ * Body of {@code /health/ready}: ready only when every dependency answered within its latency
+ * threshold.
+ */
+public class ReadinessResponse {
+
+    private final boolean ready;
+    private final List<Check> checks;
+
+    public ReadinessResponse(List<Check> checks) {
+        this.checks = checks;
+        this.ready = checks.stream().allMatch(Check::isReady);
+    }
+
+    public String getStatus() {
+        return ready ? "UP" : "DOWN";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Check> getChecks() {
+        return checks;
+    }
+
+    public static class Check {
+
+        private final String name;
+        private final boolean reachable;
+        private final long latencyMs;
+        private final long thresholdMs;
+
+        public Check(String name, boolean reachable, long latencyMs, long thresholdMs) {
+            this.name = name;
+            this.reachable = reachable;
+            this.latencyMs = latencyMs;
+            this.thresholdMs = thresholdMs;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isReachable() {
+            return reachable;
+        }
+
+        public long getLatencyMs() {
+            return latencyMs;
+        }
+
+        public long getThresholdMs() {
+            return thresholdMs;
+        }
+
+        public boolean isReady() {
+            return reachable && latencyMs <= thresholdMs;
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.example.monolith_service.assistant;
 
 import com.example.monolith_service.assistant.dto.ChatResponse;
+import com.example.monolith_service.ticket.SlaClock;
+import com.example.monolith_service.ticket.SlaDeadlineIndex;
 import com.example.monolith_service.ticket.Ticket;
 import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketQueueCounters;
 import com.example.monolith_service.ticket.TicketRepository;
 import com.example.monolith_service.ticket.TicketStatus;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -21,223 +24,241 @@ import java.util.stream.Collectors;
 public class AssistantService {
 
     private static final Pattern TICKET_ID_PATTERN = Pattern.compile("(?:ticket\\s*#?\\s*|#)(\\d+)");
+    private static final long DUE_SOON_SECONDS = 30 * 60;
+    private static final int MAX_MENTIONED_TICKETS = 10;
+    private static final int MAX_ID_DIGITS = 18;
+    private static final IntentMatcher<ChatIntent> INTENT_MATCHER = new IntentMatcher<>(ChatIntent.class, ChatIntent::keywords);
 
     private final TicketRepository ticketRepository;
+    private final TicketQueueCounters queueCounters;
+    private final SlaDeadlineIndex deadlineIndex;
+    private final ChatMetrics chatMetrics;
 
-    public AssistantService(TicketRepository ticketRepository) {
+    public AssistantService(
+        TicketRepository ticketRepository,
+        TicketQueueCounters queueCounters,
+        SlaDeadlineIndex deadlineIndex,
+        ChatMetrics chatMetrics
+    ) {
         this.ticketRepository = ticketRepository;
+        this.queueCounters = queueCounters;
+        this.deadlineIndex = deadlineIndex;
+        this.chatMetrics = chatMetrics;
     }
 
     public ChatResponse chat(String rawMessage) {
+        long started = System.nanoTime();
         String message = rawMessage == null ? "" : rawMessage.trim().toLowerCase();
         if (message.isBlank()) {
-            return new ChatResponse(
-                "Ask a specific question, for example: status of ticket #12, how many open tickets, or who has most workload.",
-                defaultSuggestions()
+            return reply(ChatIntent.FALLBACK, started,
+                "Ask a specific question, for example: status of ticket #12, how many open tickets, or who has most workload."
             );
         }
 
-        List<Ticket> tickets = ticketRepository.findAll();
+        Set<ChatIntent> intents = INTENT_MATCHER.match(message);
 
-        if (tickets.isEmpty()) {
-            if (containsAny(message, "how many open", "open tickets", "open count")) {
-                return new ChatResponse("Open tickets: 0.", defaultSuggestions());
+        if (queueCounters.total() == 0) {
+            if (intents.contains(ChatIntent.OPEN_COUNT)) {
+                return reply(ChatIntent.OPEN_COUNT, started, "Open tickets: 0.");
             }
-            if (containsAny(message, "how many in progress", "in progress tickets")) {
-                return new ChatResponse("In-progress tickets: 0.", defaultSuggestions());
+            if (intents.contains(ChatIntent.IN_PROGRESS_COUNT)) {
+                return reply(ChatIntent.IN_PROGRESS_COUNT, started, "In-progress tickets: 0.");
             }
-            if (containsAny(message, "how many blocked", "blocked tickets")) {
-                return new ChatResponse("Blocked tickets: 0.", defaultSuggestions());
+            if (intents.contains(ChatIntent.BLOCKED_COUNT)) {
+                return reply(ChatIntent.BLOCKED_COUNT, started, "Blocked tickets: 0.");
             }
-            if (containsAny(message, "how many resolved", "resolved tickets")) {
-                return new ChatResponse("Resolved tickets: 0.", defaultSuggestions());
+            if (intents.contains(ChatIntent.RESOLVED_COUNT)) {
+                return reply(ChatIntent.RESOLVED_COUNT, started, "Resolved tickets: 0.");
             }
-            if (containsAny(message, "summary", "overview", "dashboard")) {
-                return new ChatResponse(
-                    "Queue summary: total=0, open=0, inProgress=0, blocked=0, resolved=0, breached=0, dueSoon=0.",
-                    defaultSuggestions()
+            if (intents.contains(ChatIntent.SUMMARY)) {
+                return reply(ChatIntent.SUMMARY, started,
+                    "Queue summary: total=0, open=0, inProgress=0, blocked=0, resolved=0, breached=0, dueSoon=0."
                 );
             }
-            if (containsAny(message, "breach", "escalate", "overdue")) {
-                return new ChatResponse("No active SLA breaches right now.", defaultSuggestions());
+            if (intents.contains(ChatIntent.BREACHES)) {
+                return reply(ChatIntent.BREACHES, started, "No active SLA breaches right now.");
             }
-            if (containsAny(message, "due soon", "sla risk")) {
-                return new ChatResponse("No tickets are due within the next 30 minutes.", defaultSuggestions());
+            if (intents.contains(ChatIntent.DUE_SOON)) {
+                return reply(ChatIntent.DUE_SOON, started, "No tickets are due within the next 30 minutes.");
             }
-            if (containsAny(message, "next", "what should i do", "action")) {
-                return new ChatResponse("No active tickets. Queue is clear.", defaultSuggestions());
+            if (intents.contains(ChatIntent.NEXT_ACTION)) {
+                return reply(ChatIntent.NEXT_ACTION, started, "No active tickets. Queue is clear.");
             }
-            return new ChatResponse(
-                "There are no tickets yet. Create incoming issues and I can prioritize, detect SLA risk, and suggest actions.",
-                defaultSuggestions()
+            return reply(ChatIntent.FALLBACK, started,
+                "There are no tickets yet. Create incoming issues and I can prioritize, detect SLA risk, and suggest actions."
             );
         }
 
-        Optional<Ticket> ticketById = findTicketFromMessage(message, tickets);
-        if (ticketById.isPresent()) {
-            Ticket t = ticketById.get();
-            if (containsAny(message, "status", "state")) {
-                return new ChatResponse("Ticket #" + t.getId() + " status is " + t.getStatus() + ".", defaultSuggestions());
-            }
-            if (containsAny(message, "assign", "owner", "assignee", "who")) {
-                String owner = t.getAssignedTo() == null ? "unassigned" : t.getAssignedTo();
-                return new ChatResponse("Ticket #" + t.getId() + " is assigned to " + owner + ".", defaultSuggestions());
-            }
-            if (containsAny(message, "sla", "due", "breach", "overdue")) {
-                long sec = Duration.between(Instant.now(), t.getSlaDueAt()).getSeconds();
-                if (t.getStatus() == TicketStatus.RESOLVED) {
-                    return new ChatResponse("Ticket #" + t.getId() + " is resolved. SLA timer is no longer active.", defaultSuggestions());
-                }
-                return new ChatResponse(
-                    "Ticket #" + t.getId() + " SLA remaining: " + formatSeconds(sec) + (sec < 0 ? " (breached)." : "."),
-                    defaultSuggestions()
-                );
-            }
-            if (containsAny(message, "priority")) {
-                return new ChatResponse("Ticket #" + t.getId() + " priority is " + t.getPriority() + ".", defaultSuggestions());
-            }
-            return new ChatResponse(
-                "Ticket #" + t.getId() + ": " + t.getTitle() + ", status=" + t.getStatus() + ", priority=" + t.getPriority()
-                    + ", assignee=" + (t.getAssignedTo() == null ? "unassigned" : t.getAssignedTo()) + ".",
-                defaultSuggestions()
-            );
+        List<Ticket> mentioned = findTicketsFromMessage(message);
+        if (!mentioned.isEmpty()) {
+            long nowEpochSecond = SlaClock.nowEpochSecond();
+            String answer = mentioned.stream()
+                .map(t -> describeTicket(t, intents, nowEpochSecond))
+                .collect(Collectors.joining(" "));
+            return reply(ChatIntent.TICKET_LOOKUP, started, answer);
         }
 
-        if (containsAny(message, "how many open", "open tickets", "open count")) {
-            long open = tickets.stream().filter(t -> t.getStatus() == TicketStatus.OPEN).count();
-            return new ChatResponse("Open tickets: " + open + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.OPEN_COUNT)) {
+            long open = queueCounters.count(TicketStatus.OPEN);
+            return reply(ChatIntent.OPEN_COUNT, started, "Open tickets: " + open + ".");
         }
 
-        if (containsAny(message, "how many in progress", "in progress tickets")) {
-            long inProgress = tickets.stream().filter(t -> t.getStatus() == TicketStatus.IN_PROGRESS).count();
-            return new ChatResponse("In-progress tickets: " + inProgress + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.IN_PROGRESS_COUNT)) {
+            long inProgress = queueCounters.count(TicketStatus.IN_PROGRESS);
+            return reply(ChatIntent.IN_PROGRESS_COUNT, started, "In-progress tickets: " + inProgress + ".");
         }
 
-        if (containsAny(message, "how many blocked", "blocked tickets")) {
-            long blocked = tickets.stream().filter(t -> t.getStatus() == TicketStatus.BLOCKED).count();
-            return new ChatResponse("Blocked tickets: " + blocked + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.BLOCKED_COUNT)) {
+            long blocked = queueCounters.count(TicketStatus.BLOCKED);
+            return reply(ChatIntent.BLOCKED_COUNT, started, "Blocked tickets: " + blocked + ".");
         }
 
-        if (containsAny(message, "how many resolved", "resolved tickets")) {
-            long resolved = tickets.stream().filter(t -> t.getStatus() == TicketStatus.RESOLVED).count();
-            return new ChatResponse("Resolved tickets: " + resolved + ".", defaultSuggestions());
+        if (intents.contains(ChatIntent.RESOLVED_COUNT)) {
+            long resolved = queueCounters.count(TicketStatus.RESOLVED);
+            return reply(ChatIntent.RESOLVED_COUNT, started, "Resolved tickets: " + resolved + ".");
         }
 
-        if (containsAny(message, "critical", "high priority", "priority split", "priority")) {
-            long critical = tickets.stream().filter(t -> t.getPriority() == TicketPriority.CRITICAL).count();
-            long high = tickets.stream().filter(t -> t.getPriority() == TicketPriority.HIGH).count();
-            long medium = tickets.stream().filter(t -> t.getPriority() == TicketPriority.MEDIUM).count();
-            long low = tickets.stream().filter(t -> t.getPriority() == TicketPriority.LOW).count();
-            return new ChatResponse(
-                "Priority split: critical=" + critical + ", high=" + high + ", medium=" + medium + ", low=" + low + ".",
-                defaultSuggestions()
+        if (intents.contains(ChatIntent.PRIORITY_SPLIT)) {
+            long critical = queueCounters.countByPriority(TicketPriority.CRITICAL);
+            long high = queueCounters.countByPriority(TicketPriority.HIGH);
+            long medium = queueCounters.countByPriority(TicketPriority.MEDIUM);
+            long low = queueCounters.countByPriority(TicketPriority.LOW);
+            return reply(ChatIntent.PRIORITY_SPLIT, started,
+                "Priority split: critical=" + critical + ", high=" + high + ", medium=" + medium + ", low=" + low + "."
             );
         }
 
-        if (containsAny(message, "breach", "escalate", "overdue")) {
-            List<Ticket> breached = breachedTickets(tickets);
+        if (intents.contains(ChatIntent.BREACHES)) {
+            List<Ticket> breached = breachedTickets(5);
             if (breached.isEmpty()) {
-                return new ChatResponse("No active SLA breaches right now.", defaultSuggestions());
+                return reply(ChatIntent.BREACHES, started, "No active SLA breaches right now.");
             }
             String top = breached.stream()
-                .limit(5)
                 .map(t -> "#" + t.getId() + " " + t.getTitle())
                 .collect(Collectors.joining("; "));
-            return new ChatResponse("SLA breached tickets: " + top + ". Escalate these first.", defaultSuggestions());
+            return reply(ChatIntent.BREACHES, started, "SLA breached tickets: " + top + ". Escalate these first.");
         }
 
-        if (containsAny(message, "due soon", "sla risk")) {
+        if (intents.contains(ChatIntent.DUE_SOON)) {
             Instant now = Instant.now();
-            List<Ticket> dueSoon = tickets.stream()
-                .filter(t -> t.getStatus() != TicketStatus.RESOLVED)
-                .filter(t -> {
-                    long sec = Duration.between(now, t.getSlaDueAt()).getSeconds();
-                    return sec >= 0 && sec <= 1800;
-                })
-                .sorted(Comparator.comparing(Ticket::getSlaDueAt))
-                .toList();
+            List<Ticket> dueSoon = loadInOrder(deadlineIndex.dueBetweenIds(now, now.plusSeconds(DUE_SOON_SECONDS), 5));
             if (dueSoon.isEmpty()) {
-                return new ChatResponse("No tickets are due within the next 30 minutes.", defaultSuggestions());
+                return reply(ChatIntent.DUE_SOON, started, "No tickets are due within the next 30 minutes.");
             }
-            String top = dueSoon.stream().limit(5).map(t -> "#" + t.getId() + " " + t.getTitle()).collect(Collectors.joining("; "));
-            return new ChatResponse("Due-soon tickets: " + top + ".", defaultSuggestions());
+            String top = dueSoon.stream().map(t -> "#" + t.getId() + " " + t.getTitle()).collect(Collectors.joining("; "));
+            return reply(ChatIntent.DUE_SOON, started, "Due-soon tickets: " + top + ".");
         }
 
-        if (containsAny(message, "workload", "assignee", "owner", "agent")) {
-            Map<String, Long> byAssignee = tickets.stream()
-                .filter(t -> t.getStatus() != TicketStatus.RESOLVED)
-                .collect(Collectors.groupingBy(t -> t.getAssignedTo() == null ? "unassigned" : t.getAssignedTo(), Collectors.counting()));
-            String workload = byAssignee.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(e -> e.getKey() + "=" + e.getValue())
+        if (intents.contains(ChatIntent.WORKLOAD)) {
+            String workload = queueCounters.topAssignees(5).stream()
+                .map(e -> e.getAssignedTo() + "=" + e.getCount())
                 .collect(Collectors.joining(", "));
-            return new ChatResponse("Current workload: " + workload + ".", defaultSuggestions());
+            return reply(ChatIntent.WORKLOAD, started, "Current workload: " + workload + ".");
         }
 
-        if (containsAny(message, "summary", "overview", "dashboard")) {
-            return new ChatResponse(buildSummary(tickets), defaultSuggestions());
+        if (intents.contains(ChatIntent.SUMMARY)) {
+            return reply(ChatIntent.SUMMARY, started, buildSummary());
         }
 
-        if (containsAny(message, "next", "what should i do", "action")) {
-            Ticket next = tickets.stream()
-                .filter(t -> t.getStatus() != TicketStatus.RESOLVED)
-                .min(Comparator.comparing(Ticket::getSlaDueAt))
-                .orElse(null);
+        if (intents.contains(ChatIntent.NEXT_ACTION)) {
+            Ticket next = loadInOrder(deadlineIndex.nextDueIds(1)).stream().findFirst().orElse(null);
             if (next == null) {
-                return new ChatResponse("No active tickets. Queue is clear.", defaultSuggestions());
+                return reply(ChatIntent.NEXT_ACTION, started, "No active tickets. Queue is clear.");
             }
-            return new ChatResponse(
-                "Next action: work on ticket #" + next.getId() + " - " + next.getTitle() + " (" + next.getPriority() + ").",
-                defaultSuggestions()
+            return reply(ChatIntent.NEXT_ACTION, started,
+                "Next action: work on ticket #" + next.getId() + " - " + next.getTitle() + " (" + next.getPriority() + ")."
             );
         }
 
-        return new ChatResponse(
-            "I could not map that exactly. Ask things like: status of ticket #1, SLA of #2, open count, workload, breaches, or next action.",
-            defaultSuggestions()
+        return reply(ChatIntent.FALLBACK, started,
+            "I could not map that exactly. Ask things like: status of ticket #1, SLA of #2, open count, workload, breaches, or next action."
         );
     }
 
-    private static Optional<Ticket> findTicketFromMessage(String message, List<Ticket> tickets) {
+    private ChatResponse reply(ChatIntent intent, long started, String answer) {
+        chatMetrics.record(intent, started);
+        return new ChatResponse(answer, defaultSuggestions());
+    }
+
+    private static String describeTicket(Ticket t, Set<ChatIntent> intents, long nowEpochSecond) {
+        if (intents.contains(ChatIntent.TICKET_STATUS)) {
+            return "Ticket #" + t.getId() + " status is " + t.getStatus() + ".";
+        }
+        if (intents.contains(ChatIntent.TICKET_ASSIGNEE)) {
+            String owner = t.getAssignedTo() == null ? "unassigned" : t.getAssignedTo();
+            return "Ticket #" + t.getId() + " is assigned to " + owner + ".";
+        }
+        if (intents.contains(ChatIntent.TICKET_SLA)) {
+            if (t.getStatus() == TicketStatus.RESOLVED) {
+                return "Ticket #" + t.getId() + " is resolved. SLA timer is no longer active.";
+            }
+            long sec = t.getSlaDueEpochSecond() - nowEpochSecond;
+            return "Ticket #" + t.getId() + " SLA remaining: " + formatSeconds(sec) + (sec < 0 ? " (breached)." : ".");
+        }
+        if (intents.contains(ChatIntent.TICKET_PRIORITY)) {
+            return "Ticket #" + t.getId() + " priority is " + t.getPriority() + ".";
+        }
+        return "Ticket #" + t.getId() + ": " + t.getTitle() + ", status=" + t.getStatus() + ", priority=" + t.getPriority()
+            + ", assignee=" + (t.getAssignedTo() == null ? "unassigned" : t.getAssignedTo()) + ".";
+    }
+
+    /**
+     * Every ticket referenced as #id, in mention order. One id is a primary-key lookup and several
+     * are one IN query, so a question about specific tickets never reads the rest of the queue.
+     */
+    private List<Ticket> findTicketsFromMessage(String message) {
+        List<Long> ids = mentionedIds(message);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() == 1) {
+            return ticketRepository.findById(ids.get(0)).map(List::of).orElse(List.of());
+        }
+        return loadInOrder(ids);
+    }
+
+    private static List<Long> mentionedIds(String message) {
+        Set<Long> ids = new LinkedHashSet<>();
         Matcher matcher = TICKET_ID_PATTERN.matcher(message);
-        if (!matcher.find()) {
-            return Optional.empty();
+        while (matcher.find() && ids.size() < MAX_MENTIONED_TICKETS) {
+            String digits = matcher.group(1);
+            if (digits.length() <= MAX_ID_DIGITS) {
+                ids.add(Long.parseLong(digits));
+            }
         }
-        long id = Long.parseLong(matcher.group(1));
-        return tickets.stream().filter(t -> t.getId() == id).findFirst();
+        return List.copyOf(ids);
     }
 
-    private static String formatSeconds(long sec) {
+    static String formatSeconds(long sec) {
         long abs = Math.abs(sec);
         long minutes = abs / 60;
         long seconds = abs % 60;
         return (sec < 0 ? "-" : "") + String.format("%02d:%02d", minutes, seconds);
     }
 
-    private static List<Ticket> breachedTickets(List<Ticket> tickets) {
-        Instant now = Instant.now();
-        return tickets.stream()
-            .filter(t -> t.getStatus() != TicketStatus.RESOLVED)
-            .filter(t -> t.getSlaDueAt().isBefore(now))
-            .sorted(Comparator.comparing(Ticket::getSlaDueAt))
-            .toList();
+    private List<Ticket> breachedTickets(int limit) {
+        return loadInOrder(deadlineIndex.breachedIds(Instant.now(), limit));
     }
 
-    private static String buildSummary(List<Ticket> tickets) {
+    private List<Ticket> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Ticket> byId = ticketRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Ticket::getId, t -> t));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private String buildSummary() {
         Instant now = Instant.now();
-        long open = tickets.stream().filter(t -> t.getStatus() == TicketStatus.OPEN).count();
-        long inProgress = tickets.stream().filter(t -> t.getStatus() == TicketStatus.IN_PROGRESS).count();
-        long blocked = tickets.stream().filter(t -> t.getStatus() == TicketStatus.BLOCKED).count();
-        long resolved = tickets.stream().filter(t -> t.getStatus() == TicketStatus.RESOLVED).count();
-        long breached = tickets.stream().filter(t -> t.getStatus() != TicketStatus.RESOLVED && t.getSlaDueAt().isBefore(now)).count();
-        long dueSoon = tickets.stream()
-            .filter(t -> t.getStatus() != TicketStatus.RESOLVED)
-            .map(t -> Duration.between(now, t.getSlaDueAt()).getSeconds())
-            .filter(sec -> sec >= 0 && sec <= 1800)
-            .count();
+        long open = queueCounters.count(TicketStatus.OPEN);
+        long inProgress = queueCounters.count(TicketStatus.IN_PROGRESS);
+        long blocked = queueCounters.count(TicketStatus.BLOCKED);
+        long resolved = queueCounters.count(TicketStatus.RESOLVED);
+        long breached = deadlineIndex.countBreached(now);
+        long dueSoon = deadlineIndex.countDueBetween(now, now.plusSeconds(DUE_SOON_SECONDS));
 
-        return "Queue summary: total=" + tickets.size()
+        return "Queue summary: total=" + queueCounters.total()
             + ", open=" + open
             + ", inProgress=" + inProgress
             + ", blocked=" + blocked
@@ -246,15 +267,6 @@ public class AssistantService {
             + ", dueSoon=" + dueSoon + ".";
     }
 
-    private static boolean containsAny(String text, String... keys) {
-        for (String key : keys) {
-            if (text.contains(key)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static List<String> defaultSuggestions() {
         return List.of(
             "Give me queue summary",
@@ -0,0 +1,40 @@
+package com.example.monolith_service.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * With virtual threads Tomcat no longer caps request concurrency at its thread pool, so thousands
+ * of requests can reach HikariCP at once. In that mode the DataSource is wrapped so at most
+ * pool-size callers hold a connection and the rest wait briefly in FIFO order, then fail fast.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionPoolGuardConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolGuard(Environment environment) {
+        int permits = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        Duration acquireTimeout = environment.getProperty(
+            "tickets.datasource.acquire-timeout",
+            Duration.class,
+            Duration.ofSeconds(2)
+        );
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof GuardedDataSource)) {
+                    return new GuardedDataSource(dataSource, permits, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.monolith_service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times each advised method as {@code <name>} tagged with the method and its outcome. The timers
+ * of a method are registered on its first call and reused afterwards, so recording a call does not
+ * allocate. The registry is looked up lazily because advisors are created before it exists.
+ */
+class MethodTimingInterceptor implements MethodInterceptor {
+
+    private static final int SUCCESS = 0;
+    private static final int ERROR = 1;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String name;
+    private final ConcurrentHashMap<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String name) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long started = System.nanoTime();
+        int outcome = ERROR;
+        try {
+            Object result = invocation.proceed();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            Timer[] methodTimers = timers.get(invocation.getMethod());
+            if (methodTimers == null) {
+                methodTimers = timers.computeIfAbsent(invocation.getMethod(), this::register);
+            }
+            methodTimers[outcome].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] register(Method method) {
+        MeterRegistry registry = meterRegistry.getObject();
+        Timer[] methodTimers = new Timer[2];
+        methodTimers[SUCCESS] = timer(registry, method, "success");
+        methodTimers[ERROR] = timer(registry, method, "error");
+        return methodTimers;
+    }
+
+    private Timer timer(MeterRegistry registry, Method method, String outcome) {
+        return Timer.builder(name)
+            .tag("method", method.getName())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
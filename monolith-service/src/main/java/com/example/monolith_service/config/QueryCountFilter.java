@@ -0,0 +1,60 @@
+package com.example.monolith_service.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each request issued as {@code http.server.requests.queries},
+ * tagged with the HTTP method and route pattern. Requests that matched no handler are skipped.
+ * Statements run by a streaming response after the handler returns are not included.
+ */
+class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    /** Method, then route pattern, so looking up an existing summary builds no key. */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, DistributionSummary>> summaries =
+        new ConcurrentHashMap<>();
+
+    QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        QueryCounter.resetCurrentThread();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (route != null) {
+                summary(request.getMethod(), route.toString()).record(QueryCounter.currentThread());
+            }
+        }
+    }
+
+    private DistributionSummary summary(String method, String route) {
+        ConcurrentHashMap<String, DistributionSummary> byRoute = summaries.get(method);
+        if (byRoute == null) {
+            byRoute = summaries.computeIfAbsent(method, ignored -> new ConcurrentHashMap<>());
+        }
+        DistributionSummary summary = byRoute.get(route);
+        if (summary == null) {
+            summary = byRoute.computeIfAbsent(route, ignored -> DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements issued per request")
+                .tag("method", method)
+                .tag("uri", route)
+                .register(meterRegistry));
+        }
+        return summary;
+    }
+}
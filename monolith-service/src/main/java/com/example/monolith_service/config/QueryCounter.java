@@ -0,0 +1,35 @@
+package com.example.monolith_service.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements Hibernate prepares, in total and on the current thread. Hibernate
+ * instantiates the inspector itself from {@code hibernate.session_factory.statement_inspector},
+ * which is why the counters are static.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final LongAdder TOTAL = new LongAdder();
+    private static final ThreadLocal<long[]> CURRENT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        TOTAL.increment();
+        CURRENT.get()[0]++;
+        return sql;
+    }
+
+    static LongAdder totals() {
+        return TOTAL;
+    }
+
+    static void resetCurrentThread() {
+        CURRENT.get()[0] = 0;
+    }
+
+    static long currentThread() {
+        return CURRENT.get()[0];
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.monolith_service.ticket;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Start times of the read-write transactions currently open in this instance. Every
+ * {@code updated_at} and {@code deleted_at} is stamped after its transaction began, so nothing older
+ * than the oldest start can still commit here. The change feed keeps its horizon behind that
+ * point, however long a writer waits on locks. Spring Boot registers this listener with the
+ * transaction manager.
+ */
+@Component
+public class OpenWriteTransactions implements TransactionExecutionListener {
+
+    private final ConcurrentHashMap<TransactionExecution, Instant> started = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            started.put(transaction, Instant.now());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        started.remove(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        started.remove(transaction);
+    }
+
+    /**
+     * When the oldest open write transaction began, or null when none is open. Scans the open
+     * transactions, which the connection pool keeps to a handful.
+     */
+    public Instant oldestStart() {
+        Instant oldest = null;
+        for (Instant start : started.values()) {
+            if (oldest == null || start.isBefore(oldest)) {
+                oldest = start;
+            }
+        }
+        return oldest;
+    }
+}
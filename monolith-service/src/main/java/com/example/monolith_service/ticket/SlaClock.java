@@ -0,0 +1,20 @@
+package com.example.monolith_service.ticket;
+
+/**
+ * Second-resolution SLA arithmetic. A request reads the clock once and passes the value down, so
+ * mapping a page of tickets compares primitive longs instead of allocating an {@code Instant} and a
+ * {@code Duration} per row. A ticket is breached from the first whole second after its due time.
+ */
+public final class SlaClock {
+
+    private SlaClock() {
+    }
+
+    public static long nowEpochSecond() {
+        return Math.floorDiv(System.currentTimeMillis(), 1000L);
+    }
+
+    public static boolean isBreached(long slaSecondsRemaining, TicketStatus status) {
+        return slaSecondsRemaining < 0 && status != TicketStatus.RESOLVED;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.monolith_service.ticket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Announces SLA thresholds as they pass instead of waiting for someone to ask. Each unresolved
+ * ticket holds one timer in a {@link SlaTimerWheel}, armed for its next threshold: the start of
+ * the due-soon window, then the first second past the deadline. Each fires a
+ * {@link TicketSlaEvent} once per deadline. A committed change that moves the deadline re-arms the
+ * timer; resolving or deleting the ticket cancels it. Thresholds already passed at startup count
+ * as announced, so a restart does not repeat them. A ticket created or reopened past its deadline
+ * skips the due-soon announcement and is announced as breached on the next tick.
+ */
+@Component
+public class SlaEscalationScheduler {
+
+    private static final int PENDING = 0;
+    private static final int DUE_SOON = 1;
+    private static final int BREACHED = 2;
+
+    private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Escalation> escalations = new HashMap<>();
+    private final SlaTimerWheel wheel = new SlaTimerWheel(SlaClock.nowEpochSecond());
+    private final Counter dueSoonEvents;
+    private final Counter breachedEvents;
+
+    public SlaEscalationScheduler(
+        TicketRepository ticketRepository,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry
+    ) {
+        this.ticketRepository = ticketRepository;
+        this.eventPublisher = eventPublisher;
+        this.dueSoonEvents = escalationCounter(meterRegistry, TicketSlaEvent.Type.DUE_SOON);
+        this.breachedEvents = escalationCounter(meterRegistry, TicketSlaEvent.Type.BREACHED);
+        Gauge.builder("tickets.sla.timers", this, SlaEscalationScheduler::timerCount)
+            .description("SLA timers armed for unresolved tickets")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        escalations.values().forEach(wheel::cancel);
+        escalations.clear();
+        long now = SlaClock.nowEpochSecond();
+        for (TicketDeadline row : ticketRepository.findDeadlinesByStatusNot(TicketStatus.RESOLVED)) {
+            Escalation escalation = new Escalation(row.getId(), row.getSlaDueAt(), row.getVersion());
+            escalation.stage = stageAt(escalation.dueEpochSecond(), now);
+            escalations.put(escalation.id, escalation);
+            arm(escalation);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTicketChanged(TicketChangedEvent event) {
+        TicketSnapshot current = event.getCurrent();
+        Escalation existing = escalations.get(event.getTicketId());
+        if (existing != null && current != null && existing.version > current.getVersion()) {
+            return;
+        }
+        if (current == null || current.getStatus() == TicketStatus.RESOLVED) {
+            if (existing != null) {
+                wheel.cancel(existing);
+                escalations.remove(existing.id);
+            }
+            return;
+        }
+        if (existing == null) {
+            Escalation escalation = new Escalation(current.getId(), current.getSlaDueAt(), current.getVersion());
+            escalation.stage = SlaClock.nowEpochSecond() > escalation.dueEpochSecond() ? DUE_SOON : PENDING;
+            escalations.put(escalation.id, escalation);
+            arm(escalation);
+            return;
+        }
+        existing.version = current.getVersion();
+        if (!existing.slaDueAt.equals(current.getSlaDueAt())) {
+            existing.slaDueAt = current.getSlaDueAt();
+            existing.stage = Math.min(existing.stage, stageAt(existing.dueEpochSecond(), SlaClock.nowEpochSecond()));
+            arm(existing);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.sla.tick-interval:1s}")
+    public void tick() {
+        long now = SlaClock.nowEpochSecond();
+        List<TicketSlaEvent> fired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(now, timer -> fired.add(fire((Escalation) timer, now)));
+        }
+        for (TicketSlaEvent event : fired) {
+            (event.getType() == TicketSlaEvent.Type.BREACHED ? breachedEvents : dueSoonEvents).increment();
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    public synchronized int timerCount() {
+        return wheel.size();
+    }
+
+    private TicketSlaEvent fire(Escalation escalation, long now) {
+        TicketSlaEvent.Type type;
+        if (now > escalation.dueEpochSecond()) {
+            escalation.stage = BREACHED;
+            type = TicketSlaEvent.Type.BREACHED;
+        } else {
+            escalation.stage = DUE_SOON;
+            type = TicketSlaEvent.Type.DUE_SOON;
+        }
+        arm(escalation);
+        return new TicketSlaEvent(type, escalation.id, escalation.slaDueAt);
+    }
+
+    private void arm(Escalation escalation) {
+        if (escalation.stage == BREACHED) {
+            wheel.cancel(escalation);
+        } else if (escalation.stage == DUE_SOON) {
+            wheel.schedule(escalation, escalation.dueEpochSecond() + 1);
+        } else {
+            wheel.schedule(escalation, escalation.dueEpochSecond() - TicketService.DUE_SOON_SECONDS);
+        }
+    }
+
+    private static int stageAt(long dueEpochSecond, long now) {
+        if (now > dueEpochSecond) {
+            return BREACHED;
+        }
+        return now >= dueEpochSecond - TicketService.DUE_SOON_SECONDS ? DUE_SOON : PENDING;
+    }
+
+    private static Counter escalationCounter(MeterRegistry meterRegistry, TicketSlaEvent.Type type) {
+        return Counter.builder("tickets.sla.escalations")
+            .description("SLA thresholds announced, by type")
+            .tag("type", type.name().toLowerCase(Locale.ROOT))
+            .register(meterRegistry);
+    }
+
+    private static final class Escalation extends SlaTimerWheel.Timer {
+
+        private final long id;
+        private Instant slaDueAt;
+        private long version;
+        private int stage;
+
+        private Escalation(long id, Instant slaDueAt, long version) {
+            this.id = id;
+            this.slaDueAt = slaDueAt;
+            this.version = version;
+        }
+
+        private long dueEpochSecond() {
+            return slaDueAt.getEpochSecond();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.monolith_service.ticket;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with one-second ticks: six levels of 64 slots, each slot an intrusive
+ * doubly-linked list, so scheduling and cancelling a timer are O(1) whatever the number of timers.
+ * A timer sits on the lowest level whose span still reaches its expiry and cascades down a level
+ * each time the wheel enters that slot's range, so a timer is moved at most once per level.
+ * Not thread-safe; callers serialize access.
+ */
+final class SlaTimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+    private long currentSecond;
+    private int size;
+
+    SlaTimerWheel(long startEpochSecond) {
+        this.currentSecond = startEpochSecond;
+        for (Timer[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timer head = new Timer();
+                head.prev = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    /**
+     * Fires {@code timer} at the first tick at or after {@code epochSecond}; a time already passed
+     * fires at the next tick. A scheduled timer is moved.
+     */
+    void schedule(Timer timer, long epochSecond) {
+        cancel(timer);
+        timer.expiresAt = Math.min(Math.max(epochSecond, currentSecond + 1), currentSecond + MAX_DELAY);
+        place(timer);
+        size++;
+    }
+
+    void cancel(Timer timer) {
+        if (timer.next == null) {
+            return;
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * Ticks up to {@code epochSecond}, handing each expired timer to {@code expired} after it has
+     * been unlinked, so the callback may schedule it again.
+     */
+    void advanceTo(long epochSecond, Consumer<Timer> expired) {
+        while (currentSecond < epochSecond) {
+            currentSecond++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentSecond & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            Timer head = slots[0][(int) (currentSecond & SLOT_MASK)];
+            while (head.next != head) {
+                Timer timer = head.next;
+                unlink(timer);
+                size--;
+                expired.accept(timer);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        Timer head = slots[level][(int) ((currentSecond >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        while (head.next != head) {
+            Timer timer = head.next;
+            unlink(timer);
+            place(timer);
+        }
+    }
+
+    private void place(Timer timer) {
+        int level = 0;
+        while (level < LEVELS - 1
+            && (timer.expiresAt >>> (SLOT_BITS * (level + 1))) != (currentSecond >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        Timer head = slots[level][(int) ((timer.expiresAt >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private static void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * A wheel entry; subclasses carry the payload.
+     */
+    static class Timer {
+
+        private Timer prev;
+        private Timer next;
+        private long expiresAt;
+
+        boolean isScheduled() {
+            return next != null;
+        }
+    }
+}
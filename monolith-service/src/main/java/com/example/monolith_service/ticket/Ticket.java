@@ -9,7 +9,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.time.Instant;
 
@@ -18,7 +20,8 @@ import java.time.Instant;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_id_generator")
+    @SequenceGenerator(name = "ticket_id_generator", sequenceName = "ticket_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 160)
@@ -53,6 +56,10 @@ public class Ticket {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         Instant now = Instant.now();
@@ -133,6 +140,10 @@ public class Ticket {
         this.slaDueAt = slaDueAt;
     }
 
+    public long getSlaDueEpochSecond() {
+        return slaDueAt.getEpochSecond();
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -140,4 +151,13 @@ public class Ticket {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    void markUpdated(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+        this.version = version + 1;
+    }
 }
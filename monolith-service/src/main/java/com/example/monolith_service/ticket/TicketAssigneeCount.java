@@ -0,0 +1,8 @@
+package com.example.monolith_service.ticket;
+
+public interface TicketAssigneeCount {
+
+    String getAssignedTo();
+
+    long getCount();
+}
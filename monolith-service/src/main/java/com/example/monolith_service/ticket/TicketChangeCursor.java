@@ -0,0 +1,92 @@
+package com.example.monolith_service.ticket;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position in the change feed: the last (updatedAt, id) of tickets and the last (deletedAt, ticketId)
+ * of tombstones a client has applied. When a page comes back short, the feed has been read up to
+ * the settle horizon, so the position jumps to it and idle clients never fall behind tombstone
+ * retention.
+ */
+public class TicketChangeCursor {
+
+    private final Instant ticketsAfter;
+    private final long ticketsAfterId;
+    private final Instant deletionsAfter;
+    private final long deletionsAfterId;
+
+    private TicketChangeCursor(Instant ticketsAfter, long ticketsAfterId, Instant deletionsAfter, long deletionsAfterId) {
+        this.ticketsAfter = ticketsAfter;
+        this.ticketsAfterId = ticketsAfterId;
+        this.deletionsAfter = deletionsAfter;
+        this.deletionsAfterId = deletionsAfterId;
+    }
+
+    public static TicketChangeCursor initial(Instant deletionsFrom) {
+        return new TicketChangeCursor(Instant.EPOCH, 0, deletionsFrom, 0);
+    }
+
+    public static TicketChangeCursor decode(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return new TicketChangeCursor(
+                Instant.parse(parts[0]),
+                Long.parseLong(parts[1]),
+                Instant.parse(parts[2]),
+                Long.parseLong(parts[3])
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = ticketsAfter + "|" + ticketsAfterId + "|" + deletionsAfter + "|" + deletionsAfterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TicketChangeCursor advance(List<Ticket> tickets, List<TicketTombstone> tombstones, int limit, Instant horizon) {
+        Instant nextTicketsAfter = horizon;
+        long nextTicketsAfterId = Long.MAX_VALUE;
+        if (tickets.size() == limit) {
+            Ticket last = tickets.get(tickets.size() - 1);
+            nextTicketsAfter = last.getUpdatedAt();
+            nextTicketsAfterId = last.getId();
+        }
+        Instant nextDeletionsAfter = horizon;
+        long nextDeletionsAfterId = Long.MAX_VALUE;
+        if (tombstones.size() == limit) {
+            TicketTombstone last = tombstones.get(tombstones.size() - 1);
+            nextDeletionsAfter = last.getDeletedAt();
+            nextDeletionsAfterId = last.getTicketId();
+        }
+        return new TicketChangeCursor(nextTicketsAfter, nextTicketsAfterId, nextDeletionsAfter, nextDeletionsAfterId);
+    }
+
+    public Instant getTicketsAfter() {
+        return ticketsAfter;
+    }
+
+    public long getTicketsAfterId() {
+        return ticketsAfterId;
+    }
+
+    public Instant getDeletionsAfter() {
+        return deletionsAfter;
+    }
+
+    public long getDeletionsAfterId() {
+        return deletionsAfterId;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.monolith_service.ticket;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort key and id of the last row a client has seen. Encoded as
+ * base64url of {@code sortBy|direction|id|value} so the value, which may contain '|', comes last.
+ */
+public class TicketCursor {
+
+    private final String sortBy;
+    private final boolean descending;
+    private final long id;
+    private final String value;
+
+    private TicketCursor(String sortBy, boolean descending, long id, String value) {
+        this.sortBy = sortBy;
+        this.descending = descending;
+        this.id = id;
+        this.value = value;
+    }
+
+    public static TicketCursor after(TicketResponse ticket, String sortBy, boolean descending) {
+        return new TicketCursor(sortBy, descending, ticket.getId(), String.valueOf(sortValue(ticket, sortBy)));
+    }
+
+    public static TicketCursor decode(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4 || !("asc".equals(parts[1]) || "desc".equals(parts[1]))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            TicketCursor cursor = new TicketCursor(parts[0], "desc".equals(parts[1]), Long.parseLong(parts[2]), parts[3]);
+            cursor.typedValue();
+            return cursor;
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + "|" + (descending ? "desc" : "asc") + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(String sortBy, boolean descending) {
+        return this.sortBy.equals(sortBy) && this.descending == descending;
+    }
+
+    public Specification<Ticket> toSpecification() {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            if ("id".equals(sortBy)) {
+                return descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+            }
+            return beyond(root, cb, idPath, typedValue());
+        };
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate beyond(Root<Ticket> root, CriteriaBuilder cb, Path<Long> idPath, Y key) {
+        Path<Y> path = root.get(sortBy);
+        Predicate past = descending ? cb.lessThan(path, key) : cb.greaterThan(path, key);
+        Predicate tie = cb.and(cb.equal(path, key), descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id));
+        return cb.or(past, tie);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Y extends Comparable<? super Y>> Y typedValue() {
+        return (Y) switch (sortBy) {
+            case "id" -> Long.valueOf(id);
+            case "title" -> value;
+            case "priority" -> TicketPriority.valueOf(value);
+            case "status" -> TicketStatus.valueOf(value);
+            case "slaDueAt", "createdAt" -> Instant.parse(value);
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        };
+    }
+
+    private static Object sortValue(TicketResponse ticket, String sortBy) {
+        return switch (sortBy) {
+            case "id" -> ticket.getId();
+            case "title" -> ticket.getTitle();
+            case "priority" -> ticket.getPriority();
+            case "status" -> ticket.getStatus();
+            case "slaDueAt" -> ticket.getSlaDueAt();
+            case "createdAt" -> ticket.getCreatedAt();
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        };
+    }
+}
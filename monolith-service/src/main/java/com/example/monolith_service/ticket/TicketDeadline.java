@@ -0,0 +1,12 @@
+package com.example.monolith_service.ticket;
+
+import java.time.Instant;
+
+public interface TicketDeadline {
+
+    Long getId();
+
+    Instant getSlaDueAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,55 @@
+package com.example.monolith_service.ticket;
+
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Entity tags for conditional GETs, computed from memory so a matching {@code If-None-Match} is
+ * answered 304 without touching the database. Queue-wide tags combine the read cache version with
+ * the next SLA deadlines still ahead, because breach flags and due-soon counts also move with the
+ * clock. Tags are weak: {@code slaSecondsRemaining} differs from one second to the next, while
+ * everything else in the representation is unchanged.
+ */
+@Component
+public class TicketEtags {
+
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final TicketReadCache readCache;
+    private final SlaDeadlineIndex deadlineIndex;
+
+    public TicketEtags(TicketReadCache readCache, SlaDeadlineIndex deadlineIndex) {
+        this.readCache = readCache;
+        this.deadlineIndex = deadlineIndex;
+    }
+
+    /**
+     * Tag for listings and exports: read before loading, so a body never carries a newer tag
+     * than its contents.
+     */
+    public String queue() {
+        long version = readCache.version();
+        Instant breachedBefore = Instant.ofEpochSecond(SlaClock.nowEpochSecond());
+        return tag(version + "." + deadline(deadlineIndex.nextDeadlineFrom(breachedBefore)));
+    }
+
+    public String summary() {
+        long version = readCache.version();
+        Instant now = Instant.now();
+        return tag(version + "." + deadline(deadlineIndex.nextDeadlineFrom(now)) + "."
+            + deadline(deadlineIndex.nextDeadlineFrom(now.plusSeconds(TicketService.DUE_SOON_SECONDS))));
+    }
+
+    public String ticket(TicketResponse ticket) {
+        return "W/\"" + ticket.getVersion() + (ticket.isBreached() ? "b" : "") + "\"";
+    }
+
+    private String tag(String state) {
+        return "W/\"" + instance + "." + state + "\"";
+    }
+
+    private static String deadline(Instant deadline) {
+        return deadline == null ? "-" : Long.toString(deadline.toEpochMilli(), 36);
+    }
+}
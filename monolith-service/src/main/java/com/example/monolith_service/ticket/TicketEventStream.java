@@ -0,0 +1,234 @@
+package com.example.monolith_service.ticket;
+
+import com.example.monolith_service.ticket.dto.TicketChangeMessage;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed ticket changes, SLA escalations and queue summaries to Server-Sent Events
+ * subscribers. Each message is serialized once and copied into a bounded per-subscriber buffer
+ * that is drained on a small pool of its own, so blocked sends never hold threads that MVC async
+ * work needs. A subscriber that falls behind loses its backlog and gets one {@code resync} event;
+ * one whose send stays blocked past the write timeout is completed with an error and its sender
+ * interrupted, so a tab that stops reading holds a send thread for at most that long. The summary
+ * is computed at most once per tick regardless of how many tabs are open.
+ */
+@Component
+public class TicketEventStream {
+
+    private static final Message RESYNC = new Message("resync", "{}");
+
+    private final TicketService ticketService;
+    private final JsonMapper jsonMapper;
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final long summaryIntervalNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean summaryStale = new AtomicBoolean();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long lastSummaryAt = System.nanoTime();
+
+    public TicketEventStream(
+        TicketService ticketService,
+        JsonMapper jsonMapper,
+        @Value("${tickets.stream.send-threads:4}") int sendThreads,
+        @Value("${tickets.stream.buffer-size:256}") int bufferSize,
+        @Value("${tickets.stream.timeout:30m}") Duration timeout,
+        @Value("${tickets.stream.write-timeout:10s}") Duration writeTimeout,
+        @Value("${tickets.stream.summary-interval:12s}") Duration summaryInterval
+    ) {
+        this.ticketService = ticketService;
+        this.jsonMapper = jsonMapper;
+        this.sendExecutor = new ThreadPoolTaskExecutor();
+        this.sendExecutor.setCorePoolSize(sendThreads);
+        this.sendExecutor.setMaxPoolSize(sendThreads);
+        this.sendExecutor.setThreadNamePrefix("ticket-stream-");
+        this.sendExecutor.initialize();
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.summaryIntervalNanos = summaryInterval.toNanos();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        deliver(subscriber, message("summary", ticketService.summary()));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        summaryStale.set(true);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String change = event.isCreated() ? "CREATED" : event.isDeleted() ? "DELETED" : "UPDATED";
+        TicketSnapshot ticket = event.isDeleted() ? event.getPrevious() : event.getCurrent();
+        broadcast(message("ticket", new TicketChangeMessage(change, ticket)));
+    }
+
+    @EventListener
+    public void onSlaEscalation(TicketSlaEvent event) {
+        summaryStale.set(true);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(message("sla", event));
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.stream.summary-check-interval:1s}")
+    public void publishSummary() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean stale = summaryStale.getAndSet(false);
+        if (!stale && now - lastSummaryAt < summaryIntervalNanos) {
+            return;
+        }
+        lastSummaryAt = now;
+        broadcast(message("summary", ticketService.summary()));
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.stream.write-check-interval:1s}")
+    public void expireStalledWrites() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.interruptIfSendingSince(now - writeTimeoutNanos) && subscribers.remove(subscriber)) {
+                subscriber.buffer.clear();
+                subscriber.emitter.completeWithError(new TimeoutException("SSE write timed out"));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private Message message(String name, Object payload) {
+        return new Message(name, jsonMapper.writeValueAsString(payload));
+    }
+
+    private void broadcast(Message message) {
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, message);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, Message message) {
+        if (!subscriber.buffer.offer(message)) {
+            subscriber.buffer.clear();
+            subscriber.buffer.offer(RESYNC);
+        }
+        drain(subscriber);
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        sendExecutor.execute(() -> {
+            try {
+                Message message;
+                while ((message = subscriber.buffer.poll()) != null) {
+                    subscriber.sending();
+                    try {
+                        subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(sequence.incrementAndGet()))
+                            .name(message.name)
+                            .data(message.json, MediaType.APPLICATION_JSON));
+                    } finally {
+                        subscriber.sent();
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                subscriber.buffer.clear();
+                if (subscribers.remove(subscriber)) {
+                    subscriber.emitter.completeWithError(ex);
+                }
+                return;
+            } finally {
+                subscriber.draining.set(false);
+            }
+            if (!subscriber.buffer.isEmpty()) {
+                drain(subscriber);
+            }
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private Thread sender;
+        private long sendingSince;
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private synchronized void sending() {
+            sender = Thread.currentThread();
+            sendingSince = System.nanoTime();
+        }
+
+        /**
+         * Clears the sender under the same lock the watchdog interrupts with, so an interrupt meant
+         * for this send never leaks into the next task on the pool thread.
+         */
+        private synchronized void sent() {
+            sender = null;
+            Thread.interrupted();
+        }
+
+        private synchronized boolean interruptIfSendingSince(long deadline) {
+            if (sender == null || sendingSince - deadline > 0) {
+                return false;
+            }
+            sender.interrupt();
+            return true;
+        }
+    }
+
+    private static final class Message {
+
+        private final String name;
+        private final String json;
+
+        private Message(String name, String json) {
+            this.name = name;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.monolith_service.ticket;
+
+import com.example.monolith_service.ticket.dto.TicketFields;
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams matching tickets as NDJSON, CSV or a CBOR sequence (one CBOR item per ticket, RFC 8742).
+ * NDJSON and CBOR honour a field projection; CSV always has every column.
+ */
+@Component
+public class TicketExporter {
+
+    private static final String CSV_HEADER = "id,title,description,customerName,customerEmail,priority,status,assignedTo,"
+        + "slaDueAt,createdAt,updatedAt,slaSecondsRemaining,breached";
+
+    private final TicketService ticketService;
+    private final JsonMapper jsonMapper;
+    private final CBORMapper cborMapper;
+
+    public TicketExporter(TicketService ticketService, JsonMapper jsonMapper, CBORMapper cborMapper) {
+        this.ticketService = ticketService;
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+    }
+
+    public void export(
+        TicketExportFormat format,
+        TicketFields fields,
+        String search,
+        TicketStatus status,
+        TicketPriority priority,
+        OutputStream out
+    ) throws IOException {
+        if (format == TicketExportFormat.CBOR) {
+            ObjectWriter writer = cborMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = cborMapper.createGenerator(out);
+            ticketService.forEachMatching(search, status, priority, ticket -> writer.writeValue(generator, ticket.withFields(fields)));
+            generator.flush();
+            return;
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TicketExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try {
+            ticketService.forEachMatching(search, status, priority, ticket -> {
+                try {
+                    writer.write(format == TicketExportFormat.CSV ? toCsv(ticket) : jsonMapper.writeValueAsString(ticket.withFields(fields)));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private static String toCsv(TicketResponse ticket) {
+        return ticket.getId()
+            + "," + csv(ticket.getTitle())
+            + "," + csv(ticket.getDescription())
+            + "," + csv(ticket.getCustomerName())
+            + "," + csv(ticket.getCustomerEmail())
+            + "," + ticket.getPriority()
+            + "," + ticket.getStatus()
+            + "," + csv(ticket.getAssignedTo())
+            + "," + ticket.getSlaDueAt()
+            + "," + ticket.getCreatedAt()
+            + "," + ticket.getUpdatedAt()
+            + "," + ticket.getSlaSecondsRemaining()
+            + "," + ticket.isBreached();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
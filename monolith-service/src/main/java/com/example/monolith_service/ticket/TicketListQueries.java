@@ -0,0 +1,24 @@
+package com.example.monolith_service.ticket;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Listing reads that select only the {@link TicketListRow} columns, in a read-only transaction.
+ */
+public interface TicketListQueries {
+
+    @Transactional(readOnly = true)
+    Page<TicketListRow> findListRows(Specification<Ticket> spec, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    List<TicketListRow> findListRows(Specification<Ticket> spec);
+
+    @Transactional(readOnly = true)
+    List<TicketListRow> findListRows(Specification<Ticket> spec, Sort sort, int limit);
+}
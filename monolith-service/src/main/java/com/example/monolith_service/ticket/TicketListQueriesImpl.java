@@ -0,0 +1,81 @@
+package com.example.monolith_service.ticket;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * Criteria queries with a constructor select, so the description column is never read and no
+ * entity is hydrated, snapshotted for dirty checking or kept in the persistence context.
+ */
+class TicketListQueriesImpl implements TicketListQueries {
+
+    private final EntityManager entityManager;
+
+    TicketListQueriesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<TicketListRow> findListRows(Specification<Ticket> spec, Pageable pageable) {
+        TypedQuery<TicketListRow> query = listQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TicketListRow> findListRows(Specification<Ticket> spec) {
+        return listQuery(spec, Sort.unsorted()).getResultList();
+    }
+
+    @Override
+    public List<TicketListRow> findListRows(Specification<Ticket> spec, Sort sort, int limit) {
+        return listQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<TicketListRow> listQuery(Specification<Ticket> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketListRow> query = cb.createQuery(TicketListRow.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        query.select(cb.construct(
+            TicketListRow.class,
+            root.get("id"),
+            root.get("title"),
+            root.get("customerName"),
+            root.get("customerEmail"),
+            root.get("priority"),
+            root.get("status"),
+            root.get("assignedTo"),
+            root.get("slaDueAt"),
+            root.get("createdAt"),
+            root.get("updatedAt"),
+            root.get("version")
+        ));
+        query.where(spec.toPredicate(root, query, cb));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query).setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    private long count(Specification<Ticket> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
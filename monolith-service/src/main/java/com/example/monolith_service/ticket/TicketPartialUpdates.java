@@ -0,0 +1,15 @@
+package com.example.monolith_service.ticket;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Single-column ticket updates issued as one UPDATE statement. Each method returns the row as it
+ * was before the change (detached), or empty when no row matched the id and expected version.
+ */
+public interface TicketPartialUpdates {
+
+    Optional<Ticket> updateStatusReturningPrevious(Long id, TicketStatus status, Long expectedVersion, Instant now);
+
+    Optional<Ticket> assignReturningPrevious(Long id, String assignedTo, Long expectedVersion, Instant now);
+}
@@ -0,0 +1,162 @@
+package com.example.monolith_service.ticket;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Status x priority counts and per-assignee open workload, seeded from GROUP BY queries at startup
+ * and adjusted from committed changes. Writers lock the row before reading the previous state, so
+ * the deltas commute. Workload is also kept ordered by load, so a top-k answer reads k entries.
+ */
+@Component
+public class TicketQueueCounters {
+
+    private static final String UNASSIGNED = "unassigned";
+    private static final int PRIORITIES = TicketPriority.values().length;
+    private static final Comparator<Workload> BY_LOAD = Comparator
+        .comparingLong((Workload w) -> w.count).reversed()
+        .thenComparing(w -> w.assignee);
+
+    private final TicketRepository ticketRepository;
+    private final AtomicLongArray counts = new AtomicLongArray(TicketStatus.values().length * PRIORITIES);
+    private final ConcurrentHashMap<String, Workload> workload = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Workload> byLoad = new ConcurrentSkipListSet<>(BY_LOAD);
+
+    public TicketQueueCounters(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        long[] fresh = new long[counts.length()];
+        for (TicketStatusPriorityCount row : ticketRepository.countGroupedByStatusAndPriority()) {
+            fresh[slot(row.getStatus(), row.getPriority())] = row.getCount();
+        }
+        for (int i = 0; i < fresh.length; i++) {
+            counts.set(i, fresh[i]);
+        }
+
+        workload.clear();
+        byLoad.clear();
+        for (TicketAssigneeCount row : ticketRepository.countActiveGroupedByAssignee()) {
+            adjustWorkload(assignee(row.getAssignedTo()), row.getCount());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        TicketSnapshot before = event.getPrevious();
+        TicketSnapshot after = event.getCurrent();
+        if (before != null) {
+            counts.decrementAndGet(slot(before.getStatus(), before.getPriority()));
+        }
+        if (after != null) {
+            counts.incrementAndGet(slot(after.getStatus(), after.getPriority()));
+        }
+
+        String beforeAssignee = isActive(before) ? assignee(before.getAssignedTo()) : null;
+        String afterAssignee = isActive(after) ? assignee(after.getAssignedTo()) : null;
+        if (beforeAssignee == null ? afterAssignee == null : beforeAssignee.equals(afterAssignee)) {
+            return;
+        }
+        synchronized (this) {
+            if (beforeAssignee != null) {
+                adjustWorkload(beforeAssignee, -1);
+            }
+            if (afterAssignee != null) {
+                adjustWorkload(afterAssignee, 1);
+            }
+        }
+    }
+
+    public long count(TicketStatus status) {
+        long total = 0;
+        for (TicketPriority priority : TicketPriority.values()) {
+            total += counts.get(slot(status, priority));
+        }
+        return total;
+    }
+
+    public long countByPriority(TicketPriority priority) {
+        long total = 0;
+        for (TicketStatus status : TicketStatus.values()) {
+            total += counts.get(slot(status, priority));
+        }
+        return total;
+    }
+
+    public long total() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public List<TicketAssigneeCount> topAssignees(int limit) {
+        List<TicketAssigneeCount> top = new ArrayList<>(Math.min(limit, 16));
+        for (Workload entry : byLoad) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+
+    private void adjustWorkload(String assignee, long delta) {
+        Workload existing = workload.get(assignee);
+        long count = (existing == null ? 0 : existing.count) + delta;
+        if (existing != null) {
+            byLoad.remove(existing);
+        }
+        if (count <= 0) {
+            workload.remove(assignee);
+            return;
+        }
+        Workload updated = new Workload(assignee, count);
+        workload.put(assignee, updated);
+        byLoad.add(updated);
+    }
+
+    private static boolean isActive(TicketSnapshot snapshot) {
+        return snapshot != null && snapshot.getStatus() != TicketStatus.RESOLVED;
+    }
+
+    private static String assignee(String assignedTo) {
+        return assignedTo == null ? UNASSIGNED : assignedTo;
+    }
+
+    private static int slot(TicketStatus status, TicketPriority priority) {
+        return status.ordinal() * PRIORITIES + priority.ordinal();
+    }
+
+    private static final class Workload implements TicketAssigneeCount {
+
+        private final String assignee;
+        private final long count;
+
+        private Workload(String assignee, long count) {
+            this.assignee = assignee;
+            this.count = count;
+        }
+
+        @Override
+        public String getAssignedTo() {
+            return assignee;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.monolith_service.ticket;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketRepository
+    extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>, TicketPartialUpdates, TicketListQueries {
     Page<Ticket> findByTitleContainingIgnoreCaseOrCustomerNameContainingIgnoreCaseOrCustomerEmailContainingIgnoreCase(
         String title,
         String customerName,
@@ -14,4 +24,75 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecif
     );
 
     long countByStatus(TicketStatus status);
+
+    List<TicketDeadline> findDeadlinesByStatusNot(TicketStatus status);
+
+    List<TicketSearchDocument> findSearchDocumentsBy();
+
+    @Query("""
+        select t.status as status, t.priority as priority, count(t) as count
+        from Ticket t
+        group by t.status, t.priority
+        """)
+    List<TicketStatusPriorityCount> countGroupedByStatusAndPriority();
+
+    @Query("""
+        select t.assignedTo as assignedTo, count(t) as count
+        from Ticket t
+        where t.status <> com.example.monolith_service.ticket.TicketStatus.RESOLVED
+        group by t.assignedTo
+        """)
+    List<TicketAssigneeCount> countActiveGroupedByAssignee();
+
+    @Query("""
+        select count(t) as total,
+            coalesce(sum(case when t.status = com.example.monolith_service.ticket.TicketStatus.OPEN then 1 else 0 end), 0) as openCount,
+            coalesce(sum(case when t.status = com.example.monolith_service.ticket.TicketStatus.IN_PROGRESS then 1 else 0 end), 0) as inProgressCount,
+            coalesce(sum(case when t.status = com.example.monolith_service.ticket.TicketStatus.BLOCKED then 1 else 0 end), 0) as blockedCount,
+            coalesce(sum(case when t.status = com.example.monolith_service.ticket.TicketStatus.RESOLVED then 1 else 0 end), 0) as resolvedCount,
+            coalesce(sum(case when t.status <> com.example.monolith_service.ticket.TicketStatus.RESOLVED
+                and t.slaDueAt < :now then 1 else 0 end), 0) as breachedCount,
+            coalesce(sum(case when t.status <> com.example.monolith_service.ticket.TicketStatus.RESOLVED
+                and t.slaDueAt >= :now and t.slaDueAt <= :dueSoonUntil then 1 else 0 end), 0) as dueSoonCount
+        from Ticket t
+        """)
+    TicketSummaryCounts summarize(@Param("now") Instant now, @Param("dueSoonUntil") Instant dueSoonUntil);
+
+    @Query(value = """
+        select t.id from tickets t
+        where (t.search_vector @@ to_tsquery('simple', :tsQuery) or t.customer_email ilike :emailPattern)
+            and (cast(:status as varchar) is null or t.status = cast(:status as varchar))
+            and (cast(:priority as varchar) is null or t.priority = cast(:priority as varchar))
+        order by ts_rank(t.search_vector, to_tsquery('simple', :tsQuery)) desc, t.id
+        limit :limit offset :offset
+        """, nativeQuery = true)
+    List<Long> searchRanked(
+        @Param("tsQuery") String tsQuery,
+        @Param("emailPattern") String emailPattern,
+        @Param("status") String status,
+        @Param("priority") String priority,
+        @Param("offset") int offset,
+        @Param("limit") int limit
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Ticket t where t.id = :id")
+    Optional<Ticket> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Ticket t where t.id in :ids order by t.id")
+    List<Ticket> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select t from Ticket t
+        where (t.updatedAt > :after or (t.updatedAt = :after and t.id > :afterId))
+            and t.updatedAt <= :horizon
+        order by t.updatedAt, t.id
+        """)
+    List<Ticket> findChangedAfter(
+        @Param("after") Instant after,
+        @Param("afterId") long afterId,
+        @Param("horizon") Instant horizon,
+        Pageable pageable
+    );
 }
@@ -1,40 +1,139 @@
 package com.example.monolith_service.ticket;
 
+import com.example.monolith_service.error.BatchItemsNotFoundException;
 import com.example.monolith_service.error.ResourceNotFoundException;
+import com.example.monolith_service.ticket.dto.TicketBatchAssignItem;
+import com.example.monolith_service.ticket.dto.TicketBatchStatusItem;
+import com.example.monolith_service.ticket.dto.TicketChangesResponse;
+import com.example.monolith_service.ticket.dto.TicketFields;
 import com.example.monolith_service.ticket.dto.TicketPageResponse;
 import com.example.monolith_service.ticket.dto.TicketRequest;
 import com.example.monolith_service.ticket.dto.TicketResponse;
+import com.example.monolith_service.ticket.dto.TicketSliceResponse;
 import com.example.monolith_service.ticket.dto.TicketSummaryResponse;
+import com.example.monolith_service.ticket.search.TicketSearch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 public class TicketService {
 
-    private static final long DUE_SOON_SECONDS = 30 * 60;
+    static final long DUE_SOON_SECONDS = 30 * 60;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int BATCH_CHUNK_SIZE = 500;
+    private static final int CHANGES_MAX_LIMIT = 1000;
+    private static final int LOOKUP_MAX_IDS = 100;
 
     private final TicketRepository ticketRepository;
+    private final TicketTombstoneRepository tombstoneRepository;
+    private final EntityManager entityManager;
+    private final TicketQueueCounters queueCounters;
+    private final SlaDeadlineIndex deadlineIndex;
+    private final TicketSearch ticketSearch;
+    private final TicketReadCache readCache;
+    private final OpenWriteTransactions openWrites;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean summaryFromDatabase;
+    private final Duration changesSettle;
+    private final Duration tombstoneRetention;
 
-    public TicketService(TicketRepository ticketRepository) {
+    public TicketService(
+        TicketRepository ticketRepository,
+        TicketTombstoneRepository tombstoneRepository,
+        EntityManager entityManager,
+        TicketQueueCounters queueCounters,
+        SlaDeadlineIndex deadlineIndex,
+        TicketSearch ticketSearch,
+        TicketReadCache readCache,
+        OpenWriteTransactions openWrites,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${tickets.summary.source:memory}") String summarySource,
+        @Value("${tickets.changes.settle:2s}") Duration changesSettle,
+        @Value("${tickets.changes.tombstone-retention:7d}") Duration tombstoneRetention
+    ) {
         this.ticketRepository = ticketRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.entityManager = entityManager;
+        this.queueCounters = queueCounters;
+        this.deadlineIndex = deadlineIndex;
+        this.ticketSearch = ticketSearch;
+        this.readCache = readCache;
+        this.openWrites = openWrites;
+        this.eventPublisher = eventPublisher;
+        this.summaryFromDatabase = "database".equalsIgnoreCase(summarySource);
+        this.changesSettle = changesSettle;
+        this.tombstoneRetention = tombstoneRetention;
     }
 
+    @Transactional
     public TicketResponse create(TicketRequest request) {
         Ticket ticket = new Ticket();
         applyRequest(ticket, request);
         ticket.setStatus(TicketStatus.OPEN);
         ticket.setSlaDueAt(Instant.now().plus(Duration.ofMinutes(request.getSlaMinutes())));
-        return toResponse(ticketRepository.save(ticket));
+        Ticket saved = ticketRepository.save(ticket);
+        eventPublisher.publishEvent(TicketChangedEvent.created(TicketSnapshot.of(saved)));
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public List<TicketResponse> createAll(List<TicketRequest> requests) {
+        Instant now = Instant.now();
+        List<TicketResponse> responses = new ArrayList<>(requests.size());
+        for (int start = 0; start < requests.size(); start += BATCH_CHUNK_SIZE) {
+            List<Ticket> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+            for (TicketRequest request : requests.subList(start, Math.min(start + BATCH_CHUNK_SIZE, requests.size()))) {
+                Ticket ticket = new Ticket();
+                applyRequest(ticket, request);
+                ticket.setStatus(TicketStatus.OPEN);
+                ticket.setSlaDueAt(now.plus(Duration.ofMinutes(request.getSlaMinutes())));
+                chunk.add(ticket);
+            }
+            ticketRepository.saveAll(chunk);
+            entityManager.flush();
+            long nowEpochSecond = SlaClock.nowEpochSecond();
+            for (Ticket ticket : chunk) {
+                eventPublisher.publishEvent(TicketChangedEvent.created(TicketSnapshot.of(ticket)));
+                responses.add(toResponse(ticket, nowEpochSecond));
+            }
+            entityManager.clear();
+        }
+        return responses;
     }
 
+    /**
+     * One listing page. Without {@code withDescription} only the {@link TicketListRow} columns are
+     * selected; otherwise full entities are loaded, read-only, in the repository's transaction.
+     */
     public TicketPageResponse getAll(
         int page,
         int size,
@@ -42,92 +141,394 @@ public class TicketService {
         String direction,
         String search,
         TicketStatus status,
-        TicketPriority priority
+        TicketPriority priority,
+        boolean withDescription
     ) {
         int safePage = Math.max(page, 0);
         int safeSize = Math.min(Math.max(size, 1), 100);
-        Sort sort = "desc".equalsIgnoreCase(direction)
-            ? Sort.by(sortBy).descending()
-            : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(safePage, safeSize, sort);
-
         String normalizedSearch = search == null ? "" : search.trim();
-
-        Specification<Ticket> spec = (root, query, cb) -> cb.conjunction();
-        if (!normalizedSearch.isEmpty()) {
-            String like = "%" + normalizedSearch.toLowerCase() + "%";
-            spec = spec.and((root, query, cb) -> cb.or(
-                cb.like(cb.lower(root.get("title")), like),
-                cb.like(cb.lower(root.get("customerName")), like),
-                cb.like(cb.lower(root.get("customerEmail")), like)
-            ));
+        if ("relevance".equals(sortBy)) {
+            if (!normalizedSearch.isEmpty()) {
+                return getByRelevance(safePage, safeSize, normalizedSearch, status, priority, withDescription);
+            }
+            sortBy = "id";
         }
-        if (status != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        boolean descending = "desc".equalsIgnoreCase(direction);
+        if (normalizedSearch.isEmpty()) {
+            String sortProperty = sortBy;
+            return readCache.page(safePage, safeSize, sortProperty, descending, status, priority, withDescription,
+                () -> loadPage(safePage, safeSize, sortProperty, descending, buildSpecification(null, status, priority), withDescription));
         }
-        if (priority != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priority));
+        return loadPage(safePage, safeSize, sortBy, descending, buildSpecification(normalizedSearch, status, priority), withDescription);
+    }
+
+    private TicketPageResponse loadPage(
+        int page,
+        int size,
+        String sortBy,
+        boolean descending,
+        Specification<Ticket> spec,
+        boolean withDescription
+    ) {
+        Sort sort = descending ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        if (withDescription) {
+            Page<Ticket> ticketPage = ticketRepository.findAll(spec, pageable);
+            return pageResponse(ticketPage, toResponses(ticketPage.getContent()));
         }
+        Page<TicketListRow> rowPage = ticketRepository.findListRows(spec, pageable);
+        return pageResponse(rowPage, toListResponses(rowPage.getContent()));
+    }
+
+    private static TicketPageResponse pageResponse(Page<?> page, List<TicketResponse> items) {
+        return new TicketPageResponse(
+            items,
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.hasNext(),
+            page.hasPrevious()
+        );
+    }
 
-        Page<Ticket> ticketPage = ticketRepository.findAll(spec, pageable);
+    /**
+     * One page of search results, best match first. The ranked lookup applies the filters and
+     * pages itself, and the total is counted with the same predicate listings use, so every
+     * result is reachable and the total is exact.
+     */
+    private TicketPageResponse getByRelevance(
+        int page,
+        int size,
+        String search,
+        TicketStatus status,
+        TicketPriority priority,
+        boolean withDescription
+    ) {
+        long total = ticketRepository.count(buildSpecification(search, status, priority));
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        List<Long> ranked = offset < total ? ticketSearch.search(search, status, priority, offset, size) : List.of();
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            rank.put(ranked.get(i), i);
+        }
+        Specification<Ticket> byIds = (root, query, cb) -> root.get("id").in(ranked);
 
-        List<TicketResponse> responses = ticketPage.getContent().stream().map(this::toResponse).toList();
+        List<TicketResponse> items;
+        if (ranked.isEmpty()) {
+            items = List.of();
+        } else if (withDescription) {
+            items = toResponses(inRankOrder(ticketRepository.findAll(byIds), Ticket::getId, rank));
+        } else {
+            items = toListResponses(inRankOrder(ticketRepository.findListRows(byIds), TicketListRow::getId, rank));
+        }
 
+        int totalPages = (int) ((total + size - 1) / size);
         return new TicketPageResponse(
-            responses,
-            ticketPage.getNumber(),
-            ticketPage.getSize(),
-            ticketPage.getTotalElements(),
-            ticketPage.getTotalPages(),
-            ticketPage.hasNext(),
-            ticketPage.hasPrevious()
+            items,
+            page,
+            size,
+            total,
+            totalPages,
+            page + 1 < totalPages,
+            page > 0
         );
     }
 
+    private static <T> List<T> inRankOrder(List<T> matches, Function<T, Long> id, Map<Long, Integer> rank) {
+        return matches.stream()
+            .sorted(Comparator.comparing((T match) -> rank.get(id.apply(match))))
+            .toList();
+    }
+
+    public TicketSliceResponse getAllAfter(
+        String after,
+        int size,
+        String sortBy,
+        String direction,
+        String search,
+        TicketStatus status,
+        TicketPriority priority,
+        boolean withDescription
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        boolean descending = "desc".equalsIgnoreCase(direction);
+        Sort sort = "id".equals(sortBy) ? Sort.by("id") : Sort.by(sortBy).and(Sort.by("id"));
+        Sort keysetSort = descending ? sort.descending() : sort.ascending();
+
+        Specification<Ticket> spec = buildSpecification(search, status, priority);
+        if (after != null && !after.isBlank()) {
+            TicketCursor cursor = TicketCursor.decode(after);
+            if (!cursor.matches(sortBy, descending)) {
+                throw new IllegalArgumentException("Cursor does not match sortBy and direction");
+            }
+            spec = spec.and(cursor.toSpecification());
+        }
+
+        List<TicketResponse> rows = withDescription
+            ? toResponses(ticketRepository.findBy(spec, query -> query.sortBy(keysetSort).limit(safeSize + 1).all()))
+            : toListResponses(ticketRepository.findListRows(spec, keysetSort, safeSize + 1));
+        boolean hasNext = rows.size() > safeSize;
+        List<TicketResponse> slice = hasNext ? rows.subList(0, safeSize) : rows;
+        String nextCursor = hasNext
+            ? TicketCursor.after(slice.get(slice.size() - 1), sortBy, descending).encode()
+            : null;
+
+        return new TicketSliceResponse(slice, safeSize, hasNext, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachMatching(String search, TicketStatus status, TicketPriority priority, Consumer<TicketResponse> action) {
+        Specification<Ticket> spec = buildSpecification(search, status, priority);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        query.where(spec.toPredicate(root, query, cb)).orderBy(cb.asc(root.get("id")));
+
+        try (Stream<Ticket> tickets = entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+            long nowEpochSecond = SlaClock.nowEpochSecond();
+            tickets.forEach(ticket -> {
+                action.accept(toResponse(ticket, nowEpochSecond));
+                entityManager.detach(ticket);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TicketChangesResponse getChangesSince(String since, int limit) {
+        int safeLimit = Math.min(Math.max(limit, 1), CHANGES_MAX_LIMIT);
+        Instant now = Instant.now();
+        Instant horizon = changesHorizon(now);
+        TicketChangeCursor cursor;
+        if (since == null || since.isBlank()) {
+            cursor = TicketChangeCursor.initial(horizon);
+        } else {
+            cursor = TicketChangeCursor.decode(since);
+            if (cursor.getDeletionsAfter().isBefore(now.minus(tombstoneRetention))) {
+                return TicketChangesResponse.reset();
+            }
+        }
+
+        Pageable page = PageRequest.of(0, safeLimit);
+        List<Ticket> changed = ticketRepository.findChangedAfter(cursor.getTicketsAfter(), cursor.getTicketsAfterId(), horizon, page);
+        List<TicketTombstone> deleted = tombstoneRepository.findDeletedAfter(
+            cursor.getDeletionsAfter(),
+            cursor.getDeletionsAfterId(),
+            horizon,
+            page
+        );
+        return new TicketChangesResponse(
+            toResponses(changed),
+            deleted.stream().map(TicketTombstone::getTicketId).toList(),
+            cursor.advance(changed, deleted, safeLimit, horizon).encode(),
+            changed.size() == safeLimit || deleted.size() == safeLimit,
+            false
+        );
+    }
+
+    /**
+     * The newest change the feed may hand out. Stays behind the oldest write transaction still
+     * open here, which may yet commit rows stamped from its start. The settle window covers
+     * writers this instance cannot see, so it must exceed their longest transaction.
+     */
+    private Instant changesHorizon(Instant now) {
+        Instant horizon = now.minus(changesSettle);
+        Instant oldestWrite = openWrites.oldestStart();
+        if (oldestWrite != null && !oldestWrite.isAfter(horizon)) {
+            return oldestWrite.minus(1, ChronoUnit.MICROS);
+        }
+        return horizon;
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.changes.purge-interval:1h}")
+    @Transactional
+    public void purgeTombstones() {
+        tombstoneRepository.deleteDeletedBefore(Instant.now().minus(tombstoneRetention));
+    }
+
     public TicketResponse getById(Long id) {
-        return toResponse(findOrThrow(id));
+        return readCache.ticket(id, () -> toResponse(findOrThrow(id)));
     }
 
+    public List<TicketResponse> getByIds(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.size() > LOOKUP_MAX_IDS) {
+            throw new IllegalArgumentException("ids must contain at most " + LOOKUP_MAX_IDS + " entries");
+        }
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Ticket> byId = new HashMap<>();
+        for (Ticket ticket : ticketRepository.findAllById(distinct)) {
+            byId.put(ticket.getId(), ticket);
+        }
+        List<Ticket> found = new ArrayList<>(byId.size());
+        for (Long id : distinct) {
+            Ticket ticket = byId.get(id);
+            if (ticket != null) {
+                found.add(ticket);
+            }
+        }
+        return toResponses(found);
+    }
+
+    @Transactional
     public TicketResponse update(Long id, TicketRequest request) {
-        Ticket ticket = findOrThrow(id);
+        Ticket ticket = findForUpdateOrThrow(id);
+        if (request.getVersion() != null && !request.getVersion().equals(ticket.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Ticket.class, id);
+        }
+        TicketSnapshot previous = TicketSnapshot.of(ticket);
         applyRequest(ticket, request);
         ticket.setSlaDueAt(Instant.now().plus(Duration.ofMinutes(request.getSlaMinutes())));
-        return toResponse(ticketRepository.save(ticket));
+        return saveChanged(previous, ticket);
     }
 
-    public TicketResponse updateStatus(Long id, TicketStatus status) {
-        Ticket ticket = findOrThrow(id);
+    @Transactional
+    public TicketResponse updateStatus(Long id, TicketStatus status, Long expectedVersion) {
+        Instant now = Instant.now();
+        Ticket ticket = ticketRepository.updateStatusReturningPrevious(id, status, expectedVersion, now)
+            .orElseThrow(() -> updateRejected(id, expectedVersion));
+        TicketSnapshot previous = TicketSnapshot.of(ticket);
         ticket.setStatus(status);
-        return toResponse(ticketRepository.save(ticket));
+        ticket.markUpdated(now);
+        return publishUpdated(previous, ticket);
     }
 
-    public TicketResponse assign(Long id, String assignedTo) {
-        Ticket ticket = findOrThrow(id);
-        ticket.setAssignedTo(assignedTo.trim());
-        return toResponse(ticketRepository.save(ticket));
+    @Transactional
+    public TicketResponse assign(Long id, String assignedTo, Long expectedVersion) {
+        Instant now = Instant.now();
+        String assignee = assignedTo.trim();
+        Ticket ticket = ticketRepository.assignReturningPrevious(id, assignee, expectedVersion, now)
+            .orElseThrow(() -> updateRejected(id, expectedVersion));
+        TicketSnapshot previous = TicketSnapshot.of(ticket);
+        ticket.setAssignedTo(assignee);
+        ticket.markUpdated(now);
+        return publishUpdated(previous, ticket);
+    }
+
+    @Transactional
+    public List<TicketResponse> updateStatuses(List<TicketBatchStatusItem> items) {
+        Map<Long, Ticket> tickets = findAllForUpdateOrThrow(items.stream().map(TicketBatchStatusItem::getId).toList());
+        Map<Long, TicketSnapshot> previous = snapshots(tickets);
+        for (TicketBatchStatusItem item : items) {
+            tickets.get(item.getId()).setStatus(item.getStatus());
+        }
+        return saveChangedAll(previous, tickets, items.stream().map(TicketBatchStatusItem::getId).toList());
     }
 
+    @Transactional
+    public List<TicketResponse> assignAll(List<TicketBatchAssignItem> items) {
+        Map<Long, Ticket> tickets = findAllForUpdateOrThrow(items.stream().map(TicketBatchAssignItem::getId).toList());
+        Map<Long, TicketSnapshot> previous = snapshots(tickets);
+        for (TicketBatchAssignItem item : items) {
+            tickets.get(item.getId()).setAssignedTo(item.getAssignedTo().trim());
+        }
+        return saveChangedAll(previous, tickets, items.stream().map(TicketBatchAssignItem::getId).toList());
+    }
+
+    @Transactional
     public void delete(Long id) {
-        ticketRepository.delete(findOrThrow(id));
+        Ticket ticket = findForUpdateOrThrow(id);
+        ticketRepository.delete(ticket);
+        entityManager.persist(new TicketTombstone(id, Instant.now()));
+        eventPublisher.publishEvent(TicketChangedEvent.deleted(TicketSnapshot.of(ticket)));
     }
 
     public TicketSummaryResponse summary() {
-        List<Ticket> tickets = ticketRepository.findAll();
         Instant now = Instant.now();
+        if (summaryFromDatabase) {
+            TicketSummaryCounts counts = ticketRepository.summarize(now, now.plusSeconds(DUE_SOON_SECONDS));
+            return new TicketSummaryResponse(
+                counts.getTotal(),
+                counts.getOpenCount(),
+                counts.getInProgressCount(),
+                counts.getBlockedCount(),
+                counts.getResolvedCount(),
+                counts.getBreachedCount(),
+                counts.getDueSoonCount()
+            );
+        }
+
+        long breached = deadlineIndex.countBreached(now);
+        long dueSoon = deadlineIndex.countDueBetween(now, now.plusSeconds(DUE_SOON_SECONDS));
+
+        return new TicketSummaryResponse(
+            queueCounters.total(),
+            queueCounters.count(TicketStatus.OPEN),
+            queueCounters.count(TicketStatus.IN_PROGRESS),
+            queueCounters.count(TicketStatus.BLOCKED),
+            queueCounters.count(TicketStatus.RESOLVED),
+            breached,
+            dueSoon
+        );
+    }
+
+    private TicketResponse saveChanged(TicketSnapshot previous, Ticket ticket) {
+        return publishUpdated(previous, ticketRepository.saveAndFlush(ticket));
+    }
+
+    private TicketResponse publishUpdated(TicketSnapshot previous, Ticket ticket) {
+        eventPublisher.publishEvent(TicketChangedEvent.updated(previous, TicketSnapshot.of(ticket)));
+        return toResponse(ticket);
+    }
+
+    private RuntimeException updateRejected(Long id, Long expectedVersion) {
+        if (expectedVersion != null && ticketRepository.existsById(id)) {
+            return new ObjectOptimisticLockingFailureException(Ticket.class, id);
+        }
+        return new ResourceNotFoundException("Ticket not found with id: " + id);
+    }
+
+    Specification<Ticket> buildSpecification(String search, TicketStatus status, TicketPriority priority) {
+        String normalizedSearch = search == null ? "" : search.trim();
+
+        Specification<Ticket> spec = (root, query, cb) -> cb.conjunction();
+        if (!normalizedSearch.isEmpty()) {
+            spec = spec.and(ticketSearch.matching(normalizedSearch));
+        }
+        if (status != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (priority != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priority));
+        }
+        return spec;
+    }
+
+    private List<TicketResponse> saveChangedAll(Map<Long, TicketSnapshot> previous, Map<Long, Ticket> tickets, List<Long> order) {
+        ticketRepository.flush();
+        for (Ticket ticket : tickets.values()) {
+            eventPublisher.publishEvent(TicketChangedEvent.updated(previous.get(ticket.getId()), TicketSnapshot.of(ticket)));
+        }
+        return toResponses(order.stream().map(tickets::get).toList());
+    }
 
-        long total = tickets.size();
-        long open = tickets.stream().filter(t -> t.getStatus() == TicketStatus.OPEN).count();
-        long inProgress = tickets.stream().filter(t -> t.getStatus() == TicketStatus.IN_PROGRESS).count();
-        long blocked = tickets.stream().filter(t -> t.getStatus() == TicketStatus.BLOCKED).count();
-        long resolved = tickets.stream().filter(t -> t.getStatus() == TicketStatus.RESOLVED).count();
-        long breached = tickets.stream().filter(t -> t.getStatus() != TicketStatus.RESOLVED && t.getSlaDueAt().isBefore(now)).count();
-        long dueSoon = tickets.stream()
-            .filter(t -> t.getStatus() != TicketStatus.RESOLVED)
-            .map(t -> Duration.between(now, t.getSlaDueAt()).getSeconds())
-            .filter(sec -> sec >= 0 && sec <= DUE_SOON_SECONDS)
-            .count();
+    private static Map<Long, TicketSnapshot> snapshots(Map<Long, Ticket> tickets) {
+        Map<Long, TicketSnapshot> snapshots = new HashMap<>();
+        tickets.forEach((id, ticket) -> snapshots.put(id, TicketSnapshot.of(ticket)));
+        return snapshots;
+    }
 
-        return new TicketSummaryResponse(total, open, inProgress, blocked, resolved, breached, dueSoon);
+    private Map<Long, Ticket> findAllForUpdateOrThrow(List<Long> ids) {
+        Map<Long, Ticket> tickets = new LinkedHashMap<>();
+        for (Ticket ticket : ticketRepository.findAllByIdForUpdate(new HashSet<>(ids))) {
+            tickets.put(ticket.getId(), ticket);
+        }
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (!tickets.containsKey(ids.get(i))) {
+                missing.put("items[" + i + "].id", "Ticket not found with id: " + ids.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new BatchItemsNotFoundException("One or more tickets were not found", missing);
+        }
+        return tickets;
     }
 
     private Ticket findOrThrow(Long id) {
@@ -135,6 +536,11 @@ public class TicketService {
             .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
     }
 
+    private Ticket findForUpdateOrThrow(Long id) {
+        return ticketRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
+    }
+
     private void applyRequest(Ticket ticket, TicketRequest request) {
         ticket.setTitle(request.getTitle().trim());
         ticket.setDescription(request.getDescription().trim());
@@ -145,8 +551,33 @@ public class TicketService {
         ticket.setAssignedTo(assignee == null || assignee.isBlank() ? null : assignee.trim());
     }
 
-    private TicketResponse toResponse(Ticket ticket) {
-        long remaining = Duration.between(Instant.now(), ticket.getSlaDueAt()).getSeconds();
+    TicketResponse toResponse(Ticket ticket) {
+        return toResponse(ticket, SlaClock.nowEpochSecond());
+    }
+
+    /**
+     * Maps a page or batch against one clock reading, so every row shares the same notion of now.
+     */
+    List<TicketResponse> toResponses(List<Ticket> tickets) {
+        long nowEpochSecond = SlaClock.nowEpochSecond();
+        List<TicketResponse> responses = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            responses.add(toResponse(ticket, nowEpochSecond));
+        }
+        return responses;
+    }
+
+    List<TicketResponse> toListResponses(List<TicketListRow> rows) {
+        long nowEpochSecond = SlaClock.nowEpochSecond();
+        List<TicketResponse> responses = new ArrayList<>(rows.size());
+        for (TicketListRow row : rows) {
+            responses.add(toResponse(row, nowEpochSecond));
+        }
+        return responses;
+    }
+
+    TicketResponse toResponse(Ticket ticket, long nowEpochSecond) {
+        long remaining = ticket.getSlaDueEpochSecond() - nowEpochSecond;
         return new TicketResponse(
             ticket.getId(),
             ticket.getTitle(),
@@ -159,8 +590,29 @@ public class TicketService {
             ticket.getSlaDueAt(),
             ticket.getCreatedAt(),
             ticket.getUpdatedAt(),
+            ticket.getVersion(),
             remaining,
-            remaining < 0 && ticket.getStatus() != TicketStatus.RESOLVED
+            SlaClock.isBreached(remaining, ticket.getStatus())
         );
     }
+
+    private static TicketResponse toResponse(TicketListRow row, long nowEpochSecond) {
+        long remaining = row.getSlaDueEpochSecond() - nowEpochSecond;
+        return new TicketResponse(
+            row.getId(),
+            row.getTitle(),
+            null,
+            row.getCustomerName(),
+            row.getCustomerEmail(),
+            row.getPriority(),
+            row.getStatus(),
+            row.getAssignedTo(),
+            row.getSlaDueAt(),
+            row.getCreatedAt(),
+            row.getUpdatedAt(),
+            row.getVersion(),
+            remaining,
+            SlaClock.isBreached(remaining, row.getStatus())
+        ).withFields(TicketFields.LIST);
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.monolith_service.ticket;
+
+import java.time.Instant;
+
+public class TicketSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String customerName;
+    private final String customerEmail;
+    private final TicketPriority priority;
+    private final TicketStatus status;
+    private final String assignedTo;
+    private final Instant slaDueAt;
+    private final Instant updatedAt;
+    private final long version;
+
+    public TicketSnapshot(
+        Long id,
+        String title,
+        String customerName,
+        String customerEmail,
+        TicketPriority priority,
+        TicketStatus status,
+        String assignedTo,
+        Instant slaDueAt,
+        Instant updatedAt,
+        long version
+    ) {
+        this.id = id;
+        this.title = title;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.priority = priority;
+        this.status = status;
+        this.assignedTo = assignedTo;
+        this.slaDueAt = slaDueAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public static TicketSnapshot of(Ticket ticket) {
+        return new TicketSnapshot(
+            ticket.getId(),
+            ticket.getTitle(),
+            ticket.getCustomerName(),
+            ticket.getCustomerEmail(),
+            ticket.getPriority(),
+            ticket.getStatus(),
+            ticket.getAssignedTo(),
+            ticket.getSlaDueAt(),
+            ticket.getUpdatedAt(),
+            ticket.getVersion()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public Instant getSlaDueAt() {
+        return slaDueAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.monolith_service.ticket;
+
+public interface TicketStatusPriorityCount {
+
+    TicketStatus getStatus();
+
+    TicketPriority getPriority();
+
+    long getCount();
+}
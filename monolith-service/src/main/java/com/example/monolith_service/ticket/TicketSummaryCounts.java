@@ -0,0 +1,18 @@
+package com.example.monolith_service.ticket;
+
+public interface TicketSummaryCounts {
+
+    long getTotal();
+
+    long getOpenCount();
+
+    long getInProgressCount();
+
+    long getBlockedCount();
+
+    long getResolvedCount();
+
+    long getBreachedCount();
+
+    long getDueSoonCount();
+}
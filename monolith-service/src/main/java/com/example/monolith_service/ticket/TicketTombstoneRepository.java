@@ -0,0 +1,30 @@
+package com.example.monolith_service.ticket;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TicketTombstoneRepository extends JpaRepository<TicketTombstone, Long> {
+
+    @Query("""
+        select t from TicketTombstone t
+        where (t.deletedAt > :after or (t.deletedAt = :after and t.ticketId > :afterId))
+            and t.deletedAt <= :horizon
+        order by t.deletedAt, t.ticketId
+        """)
+    List<TicketTombstone> findDeletedAfter(
+        @Param("after") Instant after,
+        @Param("afterId") long afterId,
+        @Param("horizon") Instant horizon,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from TicketTombstone t where t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") Instant cutoff);
+}
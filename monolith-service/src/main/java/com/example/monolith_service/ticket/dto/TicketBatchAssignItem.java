@@ -0,0 +1,31 @@
+package com.example.monolith_service.ticket.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class TicketBatchAssignItem {
+
+    @NotNull(message = "id is required")
+    private Long id;
+
+    @NotBlank(message = "assignedTo is required")
+    @Size(max = 120, message = "assignedTo must be at most 120 characters")
+    private String assignedTo;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public void setAssignedTo(String assignedTo) {
+        this.assignedTo = assignedTo;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.monolith_service.ticket.dto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class TicketPageResponse {
@@ -57,4 +58,23 @@ public class TicketPageResponse {
     public boolean isHasPrevious() {
         return hasPrevious;
     }
+
+    public TicketPageResponse withFields(TicketFields fields) {
+        return fields.isAll() ? this : new TicketPageResponse(fields.apply(items), page, size, totalElements, totalPages, hasNext, hasPrevious);
+    }
+
+    public TicketPageResponse atTime(long nowEpochSecond) {
+        List<TicketResponse> current = null;
+        for (int i = 0; i < items.size(); i++) {
+            TicketResponse item = items.get(i);
+            TicketResponse moved = item.atTime(nowEpochSecond);
+            if (moved != item && current == null) {
+                current = new ArrayList<>(items.subList(0, i));
+            }
+            if (current != null) {
+                current.add(moved);
+            }
+        }
+        return current == null ? this : new TicketPageResponse(current, page, size, totalElements, totalPages, hasNext, hasPrevious);
+    }
 }
@@ -8,6 +8,12 @@ public class TicketStatusRequest {
     @NotNull(message = "status is required")
     private TicketStatus status;
 
+    /**
+     * The version the client last read. When present the write applies only if the ticket is
+     * still at that version, and is answered 409 otherwise; without it the last writer wins.
+     */
+    private Long version;
+
     public TicketStatus getStatus() {
         return status;
     }
@@ -15,4 +21,12 @@ public class TicketStatusRequest {
     public void setStatus(TicketStatus status) {
         this.status = status;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,255 @@
+package com.example.monolith_service.ticket.search;
+
+import com.example.monolith_service.ticket.Ticket;
+import com.example.monolith_service.ticket.TicketChangedEvent;
+import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketRepository;
+import com.example.monolith_service.ticket.TicketSearchDocument;
+import com.example.monolith_service.ticket.TicketSnapshot;
+import com.example.monolith_service.ticket.TicketStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Inverted index over title, customer name and customer email for profiles without PostgreSQL
+ * full-text search. Terms live in a sorted map so a prefix is a range lookup; writers are
+ * serialized, readers are lock-free. Listings filter on the matched ids while there are at most
+ * {@value #MAX_BOUND_IDS} of them, and on the same term-prefix rule in SQL beyond that.
+ */
+@Component
+@Profile("!prod")
+public class InMemoryTicketSearch implements TicketSearch {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CUSTOMER_NAME_WEIGHT = 2;
+    private static final int CUSTOMER_EMAIL_WEIGHT = 1;
+    private static final int MAX_BOUND_IDS = 1_000;
+    private static final String TERM_START = "(^|[^\\p{L}\\p{N}])";
+
+    private final TicketRepository ticketRepository;
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+    public InMemoryTicketSearch(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        postings.clear();
+        documents.clear();
+        for (TicketSearchDocument row : ticketRepository.findSearchDocumentsBy()) {
+            add(new Document(
+                row.getId(),
+                row.getTitle(),
+                row.getCustomerName(),
+                row.getCustomerEmail(),
+                row.getStatus(),
+                row.getPriority(),
+                row.getVersion()
+            ));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTicketChanged(TicketChangedEvent event) {
+        Long id = event.getTicketId();
+        Document existing = documents.get(id);
+        TicketSnapshot current = event.getCurrent();
+        if (existing != null && current != null && existing.version > current.getVersion()) {
+            return;
+        }
+        if (existing != null) {
+            remove(existing);
+        }
+        if (current != null) {
+            add(new Document(
+                id,
+                current.getTitle(),
+                current.getCustomerName(),
+                current.getCustomerEmail(),
+                current.getStatus(),
+                current.getPriority(),
+                current.getVersion()
+            ));
+        }
+    }
+
+    @Override
+    public Specification<Ticket> matching(String query) {
+        List<String> terms = SearchTerms.tokenize(query);
+        Set<Long> matches = candidates(terms);
+        if (matches.isEmpty()) {
+            return (root, criteria, cb) -> cb.disjunction();
+        }
+        if (matches.size() <= MAX_BOUND_IDS) {
+            return (root, criteria, cb) -> root.get("id").in(matches);
+        }
+        return (root, criteria, cb) -> cb.and(terms.stream()
+            .map(term -> termMatch(root, cb, term))
+            .toArray(Predicate[]::new));
+    }
+
+    @Override
+    public List<Long> search(String query, TicketStatus status, TicketPriority priority, int offset, int limit) {
+        List<String> terms = SearchTerms.tokenize(query);
+        Set<Long> candidates = candidates(terms);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Long id : candidates) {
+            Document document = documents.get(id);
+            if (document != null
+                && (status == null || status == document.status)
+                && (priority == null || priority == document.priority)) {
+                scores.put(id, document.score(terms));
+            }
+        }
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .skip(offset)
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * A term matches a field where it starts one of the field's terms: at the start of the text or
+     * right after a character {@link SearchTerms} splits on.
+     */
+    private static Predicate termMatch(Root<Ticket> root, CriteriaBuilder cb, String term) {
+        String pattern = TERM_START + term;
+        return cb.or(
+            fieldMatch(root, cb, "title", pattern),
+            fieldMatch(root, cb, "customerName", pattern),
+            fieldMatch(root, cb, "customerEmail", pattern)
+        );
+    }
+
+    private static Predicate fieldMatch(Root<Ticket> root, CriteriaBuilder cb, String field, String pattern) {
+        return cb.isTrue(cb.function(
+            TicketSearchFunctions.TERM_MATCH,
+            Boolean.class,
+            cb.lower(root.<String>get(field)),
+            cb.literal(pattern)
+        ));
+    }
+
+    private Set<Long> candidates(List<String> terms) {
+        Set<Long> candidates = null;
+        for (String term : terms) {
+            Set<Long> matches = new HashSet<>();
+            for (Set<Long> ids : postings.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+                matches.addAll(ids);
+            }
+            if (candidates == null) {
+                candidates = matches;
+            } else {
+                candidates.retainAll(matches);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates == null ? Set.of() : candidates;
+    }
+
+    private void add(Document document) {
+        documents.put(document.id, document);
+        for (String term : document.allTerms()) {
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document.id);
+        }
+    }
+
+    private void remove(Document document) {
+        documents.remove(document.id);
+        for (String term : document.allTerms()) {
+            Set<Long> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(document.id);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static final class Document {
+
+        private final Long id;
+        private final List<String> titleTerms;
+        private final List<String> customerNameTerms;
+        private final List<String> customerEmailTerms;
+        private final TicketStatus status;
+        private final TicketPriority priority;
+        private final long version;
+
+        private Document(
+            Long id,
+            String title,
+            String customerName,
+            String customerEmail,
+            TicketStatus status,
+            TicketPriority priority,
+            long version
+        ) {
+            this.id = id;
+            this.titleTerms = SearchTerms.tokenize(title);
+            this.customerNameTerms = SearchTerms.tokenize(customerName);
+            this.customerEmailTerms = SearchTerms.tokenize(customerEmail);
+            this.status = status;
+            this.priority = priority;
+            this.version = version;
+        }
+
+        private Set<String> allTerms() {
+            Set<String> terms = new HashSet<>(titleTerms);
+            terms.addAll(customerNameTerms);
+            terms.addAll(customerEmailTerms);
+            return terms;
+        }
+
+        private int score(List<String> queryTerms) {
+            int score = 0;
+            for (String queryTerm : queryTerms) {
+                score += Math.max(
+                    Math.max(fieldScore(titleTerms, queryTerm, TITLE_WEIGHT), fieldScore(customerNameTerms, queryTerm, CUSTOMER_NAME_WEIGHT)),
+                    fieldScore(customerEmailTerms, queryTerm, CUSTOMER_EMAIL_WEIGHT)
+                );
+            }
+            return score;
+        }
+
+        private static int fieldScore(Collection<String> fieldTerms, String queryTerm, int weight) {
+            int best = 0;
+            for (String term : fieldTerms) {
+                if (term.equals(queryTerm)) {
+                    return weight * 2;
+                }
+                if (term.startsWith(queryTerm)) {
+                    best = weight;
+                }
+            }
+            return best;
+        }
+    }
+}
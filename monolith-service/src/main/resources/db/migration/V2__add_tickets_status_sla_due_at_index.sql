@@ -0,0 +1,3 @@
+-- Covers the summary aggregate (status counts plus breached/due-soon CASE sums)
+-- so PostgreSQL can answer it with an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_tickets_status_sla_due_at ON tickets(status, sla_due_at);
@@ -0,0 +1,2 @@
+-- Optimistic-locking version for Ticket; single-statement status/assign updates bump it in SQL.
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,9 @@
+-- Change feed for GET /tickets/changes: keyset over (updated_at, id) plus tombstones for deletes.
+CREATE INDEX IF NOT EXISTS idx_tickets_updated_at_id ON tickets(updated_at, id);
+
+CREATE TABLE IF NOT EXISTS ticket_tombstones (
+    ticket_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_tombstones_deleted_at ON ticket_tombstones(deleted_at, ticket_id);
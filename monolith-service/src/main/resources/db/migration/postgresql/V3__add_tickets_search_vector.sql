@@ -0,0 +1,13 @@
+-- Full-text search for the prod profile: a weighted tsvector over title, customer name and
+-- customer email for ranked prefix matching, plus trigrams for partial email matches.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(customer_name, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(customer_email, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_search_vector ON tickets USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_tickets_customer_email_trgm ON tickets USING GIN (customer_email gin_trgm_ops);
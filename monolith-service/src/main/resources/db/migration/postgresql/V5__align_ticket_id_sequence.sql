@@ -0,0 +1,2 @@
+-- Move the pooled sequence past ids already handed out by the identity column.
+SELECT setval('ticket_id_seq', (SELECT COALESCE(MAX(id), 0) FROM tickets) + 50);
@@ -0,0 +1,146 @@
+package com.example.monolith_service.ticket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link SlaDeadlineIndex} fed committed ticket changes: membership, range listings and the
+ * breached and due-soon counts, which must agree with a plain scan however the queried bounds move.
+ */
+class SlaDeadlineIndexTest {
+
+    private static final Instant T = Instant.parse("2026-01-05T09:00:00Z");
+
+    private SlaDeadlineIndex index;
+
+    @BeforeEach
+    void emptyIndex() {
+        index = new SlaDeadlineIndex(mock(TicketRepository.class));
+        index.rebuild();
+    }
+
+    @Test
+    void listsUnresolvedTicketsInDeadlineOrder() {
+        open(1, T.plusSeconds(300), 0);
+        open(2, T.minusSeconds(60), 0);
+        open(3, T.plusSeconds(60), 0);
+        open(4, T.minusSeconds(600), 0);
+
+        assertEquals(4, index.activeCount());
+        assertEquals(List.of(4L, 2L, 3L), index.nextDueIds(3));
+        assertEquals(List.of(4L, 2L), index.breachedIds(T, 10));
+        assertEquals(List.of(3L, 1L), index.dueBetweenIds(T, T.plusSeconds(300), 10));
+        assertEquals(T.plusSeconds(60), index.nextDeadlineFrom(T));
+        assertNull(index.nextDeadlineFrom(T.plusSeconds(301)));
+    }
+
+    @Test
+    void countsBreachedAndDueSoonAtTheBounds() {
+        open(1, T.minusSeconds(1), 0);
+        open(2, T, 0);
+        open(3, T.plusSeconds(1800), 0);
+        open(4, T.plusSeconds(1801), 0);
+
+        assertEquals(1, index.countBreached(T));
+        assertEquals(2, index.countDueBetween(T, T.plusSeconds(1800)));
+        assertEquals(0, index.countBreached(T.minusSeconds(1)));
+        assertEquals(4, index.countBreached(T.plusSeconds(1802)));
+        assertEquals(0, index.countDueBetween(T.plusSeconds(1802), T.plusSeconds(3600)));
+        assertEquals(2, index.countDueBetween(T, T.plusSeconds(1800)));
+    }
+
+    @Test
+    void countsFollowChangesOnEitherSideOfTheBounds() {
+        open(1, T.minusSeconds(60), 0);
+        open(2, T.plusSeconds(60), 0);
+        assertEquals(1, index.countBreached(T));
+        assertEquals(1, index.countDueBetween(T, T.plusSeconds(1800)));
+
+        open(2, T.minusSeconds(30), 1);
+        open(3, T.plusSeconds(90), 0);
+        assertEquals(2, index.countBreached(T));
+        assertEquals(1, index.countDueBetween(T, T.plusSeconds(1800)));
+
+        resolve(1, T.minusSeconds(60), 1);
+        index.onTicketChanged(TicketChangedEvent.deleted(snapshot(3, TicketStatus.OPEN, T.plusSeconds(90), 0)));
+        assertEquals(1, index.countBreached(T));
+        assertEquals(0, index.countDueBetween(T, T.plusSeconds(1800)));
+        assertEquals(1, index.activeCount());
+    }
+
+    @Test
+    void ignoresChangesOlderThanTheIndexedVersion() {
+        open(1, T.plusSeconds(60), 3);
+        open(1, T.minusSeconds(60), 2);
+        resolve(1, T.plusSeconds(60), 1);
+
+        assertEquals(1, index.activeCount());
+        assertEquals(0, index.countBreached(T));
+        assertEquals(List.of(1L), index.dueBetweenIds(T, T.plusSeconds(60), 10));
+    }
+
+    @Test
+    void countsMatchAScanWhateverOrderBoundsAndChangesArrive() {
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Long, Instant> expected = new HashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        Instant now = T;
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextInt(200);
+            long version = versions.merge(id, 1L, Long::sum);
+            Instant due = T.plusSeconds(random.nextInt(-3_600, 7_200));
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    resolve(id, due, version);
+                    expected.remove(id);
+                }
+                case 1 -> {
+                    index.onTicketChanged(TicketChangedEvent.deleted(snapshot(id, TicketStatus.OPEN, due, version)));
+                    expected.remove(id);
+                }
+                default -> {
+                    open(id, due, version);
+                    expected.put(id, due);
+                }
+            }
+
+            now = random.nextInt(10) == 0 ? now.minusSeconds(random.nextInt(600)) : now.plusSeconds(random.nextInt(5));
+            Instant dueSoon = now.plusSeconds(TicketService.DUE_SOON_SECONDS);
+            assertEquals(scanBreached(expected, now), index.countBreached(now), "breached at step " + step);
+            assertEquals(scanDueBetween(expected, now, dueSoon), index.countDueBetween(now, dueSoon),
+                "due soon at step " + step);
+        }
+        assertEquals(expected.size(), index.activeCount());
+    }
+
+    private void open(long id, Instant slaDueAt, long version) {
+        index.onTicketChanged(TicketChangedEvent.created(snapshot(id, TicketStatus.OPEN, slaDueAt, version)));
+    }
+
+    private void resolve(long id, Instant slaDueAt, long version) {
+        index.onTicketChanged(TicketChangedEvent.created(snapshot(id, TicketStatus.RESOLVED, slaDueAt, version)));
+    }
+
+    private static TicketSnapshot snapshot(long id, TicketStatus status, Instant slaDueAt, long version) {
+        return new TicketSnapshot(id, "Ticket " + id, "Customer", "customer@example.com", TicketPriority.MEDIUM,
+            status, null, slaDueAt, T, version);
+    }
+
+    private static long scanBreached(Map<Long, Instant> deadlines, Instant now) {
+        return deadlines.values().stream().filter(due -> due.isBefore(now)).count();
+    }
+
+    private static long scanDueBetween(Map<Long, Instant> deadlines, Instant from, Instant to) {
+        return deadlines.values().stream().filter(due -> !due.isBefore(from) && !due.isAfter(to)).count();
+    }
+}
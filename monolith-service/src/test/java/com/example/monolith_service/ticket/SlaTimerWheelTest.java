@@ -0,0 +1,140 @@
+package com.example.monolith_service.ticket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SlaTimerWheel} driven second by second: timers fire on their second whichever level they
+ * were placed on, including after cascading down from the upper levels.
+ */
+class SlaTimerWheelTest {
+
+    private static final long START = 1_700_000_003L;
+
+    private final SlaTimerWheel wheel = new SlaTimerWheel(START);
+    private final List<Long> fired = new ArrayList<>();
+
+    @Test
+    void firesOnItsSecondAndNotBefore() {
+        NamedTimer timer = new NamedTimer(1);
+        wheel.schedule(timer, START + 5);
+
+        advanceTo(START + 4);
+        assertTrue(fired.isEmpty());
+        advanceTo(START + 5);
+        assertEquals(List.of(1L), fired);
+        assertFalse(timer.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesFarTimersDownEveryLevel() {
+        long[] delays = {63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145, 16_777_216 + 12_345};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.schedule(new NamedTimer(i), START + delays[i]);
+        }
+
+        List<Long> firedAt = new ArrayList<>();
+        for (long second = START + 1; second <= START + delays[delays.length - 1]; second++) {
+            int before = fired.size();
+            advanceTo(second);
+            for (int i = before; i < fired.size(); i++) {
+                firedAt.add(second - START);
+            }
+        }
+
+        List<Long> expected = new ArrayList<>();
+        for (long delay : delays) {
+            expected.add(delay);
+        }
+        assertEquals(expected, firedAt);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advancingInOneJumpFiresEverythingPassed() {
+        wheel.schedule(new NamedTimer(1), START + 70);
+        wheel.schedule(new NamedTimer(2), START + 5_000);
+        wheel.schedule(new NamedTimer(3), START + 5_001);
+
+        advanceTo(START + 5_000);
+
+        assertEquals(List.of(1L, 2L), fired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void cancelledTimersNeverFire() {
+        NamedTimer near = new NamedTimer(1);
+        NamedTimer far = new NamedTimer(2);
+        wheel.schedule(near, START + 3);
+        wheel.schedule(far, START + 100_000);
+        wheel.cancel(near);
+        wheel.cancel(far);
+        wheel.cancel(far);
+
+        advanceTo(START + 100_000);
+
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void reschedulingMovesTheTimer() {
+        NamedTimer timer = new NamedTimer(1);
+        wheel.schedule(timer, START + 10_000);
+        wheel.schedule(timer, START + 20);
+
+        assertEquals(1, wheel.size());
+        advanceTo(START + 20);
+        assertEquals(List.of(1L), fired);
+        advanceTo(START + 10_000);
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void pastSecondsFireOnTheNextTick() {
+        advanceTo(START + 10);
+        wheel.schedule(new NamedTimer(1), START);
+
+        advanceTo(START + 11);
+
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void expiredTimersMayBeScheduledAgainFromTheCallback() {
+        NamedTimer timer = new NamedTimer(1);
+        wheel.schedule(timer, START + 1);
+
+        wheel.advanceTo(START + 1, expired -> {
+            fired.add(((NamedTimer) expired).name);
+            wheel.schedule(expired, START + 4_100);
+        });
+        assertEquals(1, wheel.size());
+        advanceTo(START + 4_099);
+        assertEquals(List.of(1L), fired);
+        advanceTo(START + 4_100);
+        assertEquals(List.of(1L, 1L), fired);
+    }
+
+    private void advanceTo(long second) {
+        wheel.advanceTo(second, timer -> fired.add(((NamedTimer) timer).name));
+    }
+
+    private static final class NamedTimer extends SlaTimerWheel.Timer {
+
+        private final long name;
+
+        private NamedTimer(long name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.monolith_service.ticket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link TicketQueueCounters} seeded from grouped counts and then moved only by the deltas of
+ * committed changes: creates, status, priority and assignee moves, resolutions and deletions.
+ */
+class TicketQueueCountersTest {
+
+    private static final Instant DUE = Instant.parse("2026-01-05T09:00:00Z");
+
+    private TicketRepository ticketRepository;
+    private TicketQueueCounters counters;
+
+    @BeforeEach
+    void emptyQueue() {
+        ticketRepository = mock(TicketRepository.class);
+        counters = new TicketQueueCounters(ticketRepository);
+        counters.rebuild();
+    }
+
+    @Test
+    void seedsFromGroupedCounts() {
+        when(ticketRepository.countGroupedByStatusAndPriority()).thenReturn(List.of(
+            statusPriority(TicketStatus.OPEN, TicketPriority.HIGH, 3),
+            statusPriority(TicketStatus.OPEN, TicketPriority.LOW, 2),
+            statusPriority(TicketStatus.RESOLVED, TicketPriority.HIGH, 5)
+        ));
+        when(ticketRepository.countActiveGroupedByAssignee()).thenReturn(List.of(
+            assignee("alice", 1),
+            assignee(null, 4)
+        ));
+
+        counters.rebuild();
+
+        assertEquals(5, counters.count(TicketStatus.OPEN));
+        assertEquals(5, counters.count(TicketStatus.RESOLVED));
+        assertEquals(8, counters.countByPriority(TicketPriority.HIGH));
+        assertEquals(10, counters.total());
+        assertEquals(List.of("unassigned=4", "alice=1"), workload(10));
+    }
+
+    @Test
+    void createsAndDeletesMoveOneCell() {
+        TicketSnapshot created = snapshot(1, TicketStatus.OPEN, TicketPriority.HIGH, "alice", 0);
+        counters.onTicketChanged(TicketChangedEvent.created(created));
+
+        assertEquals(1, counters.count(TicketStatus.OPEN));
+        assertEquals(1, counters.countByPriority(TicketPriority.HIGH));
+        assertEquals(List.of("alice=1"), workload(10));
+
+        counters.onTicketChanged(TicketChangedEvent.deleted(created));
+
+        assertEquals(0, counters.total());
+        assertEquals(0, counters.countByPriority(TicketPriority.HIGH));
+        assertEquals(List.of(), workload(10));
+    }
+
+    @Test
+    void updatesMoveCountsBetweenCells() {
+        TicketSnapshot open = snapshot(1, TicketStatus.OPEN, TicketPriority.LOW, null, 0);
+        TicketSnapshot escalated = snapshot(1, TicketStatus.IN_PROGRESS, TicketPriority.CRITICAL, null, 1);
+        counters.onTicketChanged(TicketChangedEvent.created(open));
+        counters.onTicketChanged(TicketChangedEvent.updated(open, escalated));
+
+        assertEquals(0, counters.count(TicketStatus.OPEN));
+        assertEquals(1, counters.count(TicketStatus.IN_PROGRESS));
+        assertEquals(0, counters.countByPriority(TicketPriority.LOW));
+        assertEquals(1, counters.countByPriority(TicketPriority.CRITICAL));
+        assertEquals(1, counters.total());
+        assertEquals(List.of("unassigned=1"), workload(10));
+    }
+
+    @Test
+    void workloadFollowsAssigneeAndResolution() {
+        TicketSnapshot first = snapshot(1, TicketStatus.OPEN, TicketPriority.MEDIUM, "alice", 0);
+        TicketSnapshot second = snapshot(2, TicketStatus.OPEN, TicketPriority.MEDIUM, "alice", 0);
+        counters.onTicketChanged(TicketChangedEvent.created(first));
+        counters.onTicketChanged(TicketChangedEvent.created(second));
+
+        TicketSnapshot reassigned = snapshot(2, TicketStatus.OPEN, TicketPriority.MEDIUM, "bob", 1);
+        counters.onTicketChanged(TicketChangedEvent.updated(second, reassigned));
+        assertEquals(List.of("alice=1", "bob=1"), workload(10));
+
+        TicketSnapshot resolved = snapshot(1, TicketStatus.RESOLVED, TicketPriority.MEDIUM, "alice", 1);
+        counters.onTicketChanged(TicketChangedEvent.updated(first, resolved));
+        assertEquals(List.of("bob=1"), workload(10));
+        assertEquals(1, counters.count(TicketStatus.RESOLVED));
+
+        TicketSnapshot reopened = snapshot(1, TicketStatus.OPEN, TicketPriority.MEDIUM, "bob", 2);
+        counters.onTicketChanged(TicketChangedEvent.updated(resolved, reopened));
+        assertEquals(List.of("bob=2"), workload(10));
+        assertEquals(0, counters.count(TicketStatus.RESOLVED));
+    }
+
+    @Test
+    void topAssigneesOrdersByLoadThenName() {
+        long id = 0;
+        for (String name : List.of("carol", "alice", "bob", "carol", "bob", "carol")) {
+            counters.onTicketChanged(TicketChangedEvent.created(
+                snapshot(++id, TicketStatus.OPEN, TicketPriority.LOW, name, 0)));
+        }
+
+        assertEquals(List.of("carol=3", "bob=2", "alice=1"), workload(10));
+        assertEquals(List.of("carol=3", "bob=2"), workload(2));
+    }
+
+    private List<String> workload(int limit) {
+        return counters.topAssignees(limit).stream()
+            .map(row -> row.getAssignedTo() + "=" + row.getCount())
+            .toList();
+    }
+
+    private static TicketSnapshot snapshot(
+        long id,
+        TicketStatus status,
+        TicketPriority priority,
+        String assignedTo,
+        long version
+    ) {
+        return new TicketSnapshot(id, "Ticket " + id, "Customer", "customer@example.com", priority, status,
+            assignedTo, DUE, DUE, version);
+    }
+
+    private static TicketStatusPriorityCount statusPriority(TicketStatus status, TicketPriority priority, long count) {
+        return new TicketStatusPriorityCount() {
+            @Override
+            public TicketStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public TicketPriority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static TicketAssigneeCount assignee(String assignedTo, long count) {
+        return new TicketAssigneeCount() {
+            @Override
+            public String getAssignedTo() {
+                return assignedTo;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
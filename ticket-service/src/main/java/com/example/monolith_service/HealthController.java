@@ -1,12 +1,50 @@
 package com.example.monolith_service;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Controller
 public class HealthController {
 
+    private final DataSource dataSource;
+    private final Duration dbLatencyThreshold;
+    private final ThreadPoolTaskExecutor probeExecutor;
+    private CompletableFuture<Boolean> databaseProbe;
+
+    public HealthController(
+        DataSource dataSource,
+        @Value("${tickets.readiness.db-latency-threshold:500ms}") Duration dbLatencyThreshold
+    ) {
+        this.dataSource = dataSource;
+        this.dbLatencyThreshold = dbLatencyThreshold;
+        this.probeExecutor = new ThreadPoolTaskExecutor();
+        this.probeExecutor.setCorePoolSize(1);
+        this.probeExecutor.setMaxPoolSize(1);
+        this.probeExecutor.setThreadNamePrefix("readiness-probe-");
+        this.probeExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdown();
+    }
+
     @GetMapping("/")
     public String homeRedirect() {
         return "redirect:/login.html";
@@ -17,4 +55,48 @@ public class HealthController {
     public String health() {
         return "OK";
     }
+
+    /**
+     * Readiness for load balancers: 503 when a database connection cannot be obtained and
+     * validated within the threshold, which also covers an exhausted connection pool. The probe
+     * runs off the request thread, so the answer comes within the threshold even while the pool
+     * or its guard would keep the caller waiting; callers arriving meanwhile share that probe
+     * instead of queueing more connection requests behind it.
+     */
+    @GetMapping("/health/ready")
+    @ResponseBody
+    public ResponseEntity<ReadinessResponse> ready() {
+        ReadinessResponse response = new ReadinessResponse(List.of(checkDatabase()));
+        return ResponseEntity.status(response.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    private ReadinessResponse.Check checkDatabase() {
+        long started = System.nanoTime();
+        boolean reachable;
+        try {
+            reachable = databaseProbe().get(dbLatencyThreshold.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            reachable = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            reachable = false;
+        }
+        long latencyMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        return new ReadinessResponse.Check("database", reachable, latencyMs, dbLatencyThreshold.toMillis());
+    }
+
+    private synchronized CompletableFuture<Boolean> databaseProbe() {
+        if (databaseProbe == null || databaseProbe.isDone()) {
+            databaseProbe = CompletableFuture.supplyAsync(this::connectionIsValid, probeExecutor);
+        }
+        return databaseProbe;
+    }
+
+    private boolean connectionIsValid() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid((int) Math.max(1, dbLatencyThreshold.toSeconds()));
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
 }
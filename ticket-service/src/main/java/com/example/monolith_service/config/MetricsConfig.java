@@ -0,0 +1,61 @@
+package com.example.monolith_service.config;
+
+import com.example.monolith_service.ticket.TicketService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics beyond what Spring Boot records on its own: a timer per public {@link TicketService}
+ * method, SQL statements per request and in total. All of it is scraped from
+ * {@code /actuator/prometheus}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor ticketServiceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() == TicketService.class && Modifier.isPublic(method.getModifiers());
+            }
+        };
+        pointcut.setClassFilter(new RootClassFilter(TicketService.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            pointcut,
+            new MethodTimingInterceptor(meterRegistry, "tickets.service")
+        );
+        // Outside the transaction advisor, so commit time is part of the measurement
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public OncePerRequestFilter queryCountFilter(MeterRegistry meterRegistry) {
+        return new QueryCountFilter(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder sqlStatementCounter() {
+        return registry -> FunctionCounter.builder("db.statements", QueryCounter.totals(), LongAdder::sum)
+            .description("SQL statements prepared by Hibernate")
+            .register(registry);
+    }
+}
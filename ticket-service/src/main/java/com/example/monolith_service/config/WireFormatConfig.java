@@ -0,0 +1,49 @@
+package com.example.monolith_service.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Serves {@code application/cbor} next to JSON for clients that ask for it in {@code Accept},
+ * written by the Boot-configured CBOR mapper so it follows the same {@code spring.jackson} settings.
+ * Reads answer {@code Vary: Accept}, set before the handler runs so 304s carry it too: entity tags
+ * describe the resource state, not the encoding, and a shared cache must not hand a CBOR body to a
+ * JSON client.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final CBORMapper cborMapper;
+
+    public WireFormatConfig(CBORMapper cborMapper) {
+        this.cborMapper = cborMapper;
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                String method = request.getMethod();
+                if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                }
+                return true;
+            }
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.monolith_service.error;
+
+import java.util.Map;
+
+public class BatchItemsNotFoundException extends RuntimeException {
+
+    private final Map<String, String> itemErrors;
+
+    public BatchItemsNotFoundException(String message, Map<String, String> itemErrors) {
+        super(message);
+        this.itemErrors = itemErrors;
+    }
+
+    public Map<String, String> getItemErrors() {
+        return itemErrors;
+    }
+}
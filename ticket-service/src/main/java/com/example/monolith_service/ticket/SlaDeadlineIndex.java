@@ -0,0 +1,204 @@
+package com.example.monolith_service.ticket;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Unresolved tickets ordered by SLA deadline. Listing breached or due-soon tickets reads a range
+ * view over a skip list, so it costs O(log n + k) instead of a scan over every ticket. Counting
+ * them reads rank cursors: each remembers how many entries sort before a position, adjusts that
+ * number on every insert and removal, and only walks the entries it passes when it moves. Summary
+ * requests move the cursors forward with the clock, so each entry is walked about once per
+ * boundary instead of once per request.
+ */
+@Component
+public class SlaDeadlineIndex {
+
+    private static final Comparator<Entry> BY_DEADLINE = Comparator
+        .comparing((Entry e) -> e.slaDueAt)
+        .thenComparingLong(e -> e.id);
+
+    private final TicketRepository ticketRepository;
+    private final ConcurrentHashMap<Long, Entry> active = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> byDeadline = new ConcurrentSkipListSet<>(BY_DEADLINE);
+    private final RankCursor lowerBound = new RankCursor();
+    private final RankCursor upperBound = new RankCursor();
+
+    public SlaDeadlineIndex(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        active.clear();
+        synchronized (byDeadline) {
+            byDeadline.clear();
+            lowerBound.reset();
+            upperBound.reset();
+        }
+        for (TicketDeadline row : ticketRepository.findDeadlinesByStatusNot(TicketStatus.RESOLVED)) {
+            Entry entry = new Entry(row.getId(), row.getSlaDueAt(), row.getVersion());
+            active.put(entry.id, entry);
+            synchronized (byDeadline) {
+                add(entry);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        TicketSnapshot current = event.getCurrent();
+        active.compute(event.getTicketId(), (id, existing) -> {
+            if (existing != null && current != null && existing.version > current.getVersion()) {
+                return existing;
+            }
+            Entry entry = current == null || current.getStatus() == TicketStatus.RESOLVED
+                ? null
+                : new Entry(id, current.getSlaDueAt(), current.getVersion());
+            synchronized (byDeadline) {
+                if (existing != null) {
+                    remove(existing);
+                }
+                if (entry != null) {
+                    add(entry);
+                }
+            }
+            return entry;
+        });
+    }
+
+    public int activeCount() {
+        return active.size();
+    }
+
+    public long countBreached(Instant now) {
+        synchronized (byDeadline) {
+            return lowerBound.countBefore(Entry.probe(now, Long.MIN_VALUE));
+        }
+    }
+
+    public long countDueBetween(Instant from, Instant to) {
+        synchronized (byDeadline) {
+            return upperBound.countBefore(Entry.probe(to, Long.MAX_VALUE))
+                - lowerBound.countBefore(Entry.probe(from, Long.MIN_VALUE));
+        }
+    }
+
+    /**
+     * The earliest deadline at or after {@code from}, or null when there is none. Breach and
+     * due-soon counts only change when the clock passes one of these.
+     */
+    public Instant nextDeadlineFrom(Instant from) {
+        Entry next = byDeadline.ceiling(Entry.probe(from, Long.MIN_VALUE));
+        return next == null ? null : next.slaDueAt;
+    }
+
+    public List<Long> nextDueIds(int limit) {
+        return ids(byDeadline, limit);
+    }
+
+    public List<Long> breachedIds(Instant now, int limit) {
+        return ids(breachedView(now), limit);
+    }
+
+    public List<Long> dueBetweenIds(Instant from, Instant to, int limit) {
+        return ids(dueBetweenView(from, to), limit);
+    }
+
+    private NavigableSet<Entry> breachedView(Instant now) {
+        return byDeadline.headSet(Entry.probe(now, Long.MIN_VALUE), false);
+    }
+
+    private NavigableSet<Entry> dueBetweenView(Instant from, Instant to) {
+        return byDeadline.subSet(Entry.probe(from, Long.MIN_VALUE), true, Entry.probe(to, Long.MAX_VALUE), true);
+    }
+
+    private void add(Entry entry) {
+        if (byDeadline.add(entry)) {
+            lowerBound.added(entry);
+            upperBound.added(entry);
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (byDeadline.remove(entry)) {
+            lowerBound.removed(entry);
+            upperBound.removed(entry);
+        }
+    }
+
+    private static List<Long> ids(NavigableSet<Entry> view, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 16));
+        for (Entry entry : view) {
+            if (ids.size() == limit) {
+                break;
+            }
+            ids.add(entry.id);
+        }
+        return ids;
+    }
+
+    /**
+     * The number of entries sorting before {@code position}. Guarded by the {@code byDeadline}
+     * monitor, like every insert and removal.
+     */
+    private final class RankCursor {
+
+        private Entry position = Entry.probe(Instant.MIN, Long.MIN_VALUE);
+        private long before;
+
+        private long countBefore(Entry target) {
+            int direction = BY_DEADLINE.compare(target, position);
+            if (direction > 0) {
+                before += byDeadline.subSet(position, true, target, false).size();
+            } else if (direction < 0) {
+                before -= byDeadline.subSet(target, true, position, false).size();
+            }
+            position = target;
+            return before;
+        }
+
+        private void added(Entry entry) {
+            if (BY_DEADLINE.compare(entry, position) < 0) {
+                before++;
+            }
+        }
+
+        private void removed(Entry entry) {
+            if (BY_DEADLINE.compare(entry, position) < 0) {
+                before--;
+            }
+        }
+
+        private void reset() {
+            position = Entry.probe(Instant.MIN, Long.MIN_VALUE);
+            before = 0;
+        }
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final Instant slaDueAt;
+        private final long version;
+
+        private Entry(long id, Instant slaDueAt, long version) {
+            this.id = id;
+            this.slaDueAt = slaDueAt;
+            this.version = version;
+        }
+
+        private static Entry probe(Instant slaDueAt, long id) {
+            return new Entry(id, slaDueAt, 0);
+        }
+    }
+}
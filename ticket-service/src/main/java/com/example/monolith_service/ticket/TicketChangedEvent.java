@@ -0,0 +1,44 @@
+package com.example.monolith_service.ticket;
+
+public class TicketChangedEvent {
+
+    private final TicketSnapshot previous;
+    private final TicketSnapshot current;
+
+    private TicketChangedEvent(TicketSnapshot previous, TicketSnapshot current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static TicketChangedEvent created(TicketSnapshot current) {
+        return new TicketChangedEvent(null, current);
+    }
+
+    public static TicketChangedEvent updated(TicketSnapshot previous, TicketSnapshot current) {
+        return new TicketChangedEvent(previous, current);
+    }
+
+    public static TicketChangedEvent deleted(TicketSnapshot previous) {
+        return new TicketChangedEvent(previous, null);
+    }
+
+    public Long getTicketId() {
+        return current != null ? current.getId() : previous.getId();
+    }
+
+    public TicketSnapshot getPrevious() {
+        return previous;
+    }
+
+    public TicketSnapshot getCurrent() {
+        return current;
+    }
+
+    public boolean isCreated() {
+        return previous == null;
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
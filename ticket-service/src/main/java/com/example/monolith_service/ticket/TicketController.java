@@ -1,13 +1,23 @@
 package com.example.monolith_service.ticket;
 
 import com.example.monolith_service.ticket.dto.TicketAssignRequest;
+import com.example.monolith_service.ticket.dto.TicketBatchAssignRequest;
+import com.example.monolith_service.ticket.dto.TicketBatchRequest;
+import com.example.monolith_service.ticket.dto.TicketBatchResponse;
+import com.example.monolith_service.ticket.dto.TicketBatchStatusRequest;
+import com.example.monolith_service.ticket.dto.TicketChangesResponse;
+import com.example.monolith_service.ticket.dto.TicketFields;
 import com.example.monolith_service.ticket.dto.TicketPageResponse;
 import com.example.monolith_service.ticket.dto.TicketRequest;
 import com.example.monolith_service.ticket.dto.TicketResponse;
+import com.example.monolith_service.ticket.dto.TicketSliceResponse;
 import com.example.monolith_service.ticket.dto.TicketStatusRequest;
 import com.example.monolith_service.ticket.dto.TicketSummaryResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -19,17 +29,35 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Set;
 
 @RestController
 @RequestMapping("/tickets")
 public class TicketController {
 
+    private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("id", "title", "priority", "status", "slaDueAt", "createdAt");
+    private static final String RELEVANCE_SORT = "relevance";
+
     private final TicketService ticketService;
+    private final TicketExporter ticketExporter;
+    private final TicketEventStream ticketEventStream;
+    private final TicketEtags etags;
 
-    public TicketController(TicketService ticketService) {
+    public TicketController(
+        TicketService ticketService,
+        TicketExporter ticketExporter,
+        TicketEventStream ticketEventStream,
+        TicketEtags etags
+    ) {
         this.ticketService = ticketService;
+        this.ticketExporter = ticketExporter;
+        this.ticketEventStream = ticketEventStream;
+        this.etags = etags;
     }
 
     @PostMapping
@@ -38,6 +66,28 @@ public class TicketController {
         return ticketService.create(request);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public TicketBatchResponse createBatch(@Valid @RequestBody TicketBatchRequest request) {
+        return new TicketBatchResponse(ticketService.createAll(request.getItems()));
+    }
+
+    @GetMapping("/batch")
+    public TicketBatchResponse getBatch(@RequestParam List<Long> ids, @RequestParam(required = false) String fields) {
+        TicketFields projection = TicketFields.parse(fields);
+        return new TicketBatchResponse(ticketService.getByIds(ids)).withFields(projection);
+    }
+
+    @PatchMapping("/batch/status")
+    public TicketBatchResponse updateStatusBatch(@Valid @RequestBody TicketBatchStatusRequest request) {
+        return new TicketBatchResponse(ticketService.updateStatuses(request.getItems()));
+    }
+
+    @PatchMapping("/batch/assign")
+    public TicketBatchResponse assignBatch(@Valid @RequestBody TicketBatchAssignRequest request) {
+        return new TicketBatchResponse(ticketService.assignAll(request.getItems()));
+    }
+
     @GetMapping
     public TicketPageResponse getAll(
         @RequestParam(defaultValue = "0") int page,
@@ -46,17 +96,83 @@ public class TicketController {
         @RequestParam(defaultValue = "asc") String direction,
         @RequestParam(required = false) String search,
         @RequestParam(required = false) TicketStatus status,
-        @RequestParam(required = false) TicketPriority priority
+        @RequestParam(required = false) TicketPriority priority,
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
     ) {
-        Set<String> allowedSortFields = Set.of("id", "title", "priority", "status", "slaDueAt", "createdAt");
-        String safeSortBy = allowedSortFields.contains(sortBy) ? sortBy : "id";
-        String safeDirection = "desc".equalsIgnoreCase(direction) ? "desc" : "asc";
-        return ticketService.getAll(page, size, safeSortBy, safeDirection, search, status, priority);
+        TicketFields projection = TicketFields.parse(fields, TicketFields.LIST);
+        if (webRequest.checkNotModified(etags.queue())) {
+            return null;
+        }
+        String safeSortBy = RELEVANCE_SORT.equals(sortBy) ? RELEVANCE_SORT : safeSortBy(sortBy);
+        return ticketService.getAll(page, size, safeSortBy, safeDirection(direction), search, status, priority,
+                projection.includesDescription())
+            .withFields(projection);
+    }
+
+    @GetMapping(params = "after")
+    public TicketSliceResponse getAllAfter(
+        @RequestParam String after,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "id") String sortBy,
+        @RequestParam(defaultValue = "asc") String direction,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) TicketStatus status,
+        @RequestParam(required = false) TicketPriority priority,
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
+    ) {
+        TicketFields projection = TicketFields.parse(fields, TicketFields.LIST);
+        if (webRequest.checkNotModified(etags.queue())) {
+            return null;
+        }
+        return ticketService.getAllAfter(after, size, safeSortBy(sortBy), safeDirection(direction), search, status, priority,
+                projection.includesDescription())
+            .withFields(projection);
+    }
+
+    @GetMapping("/changes")
+    public TicketChangesResponse changes(
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "500") int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        TicketFields projection = TicketFields.parse(fields);
+        return ticketService.getChangesSince(since, limit).withFields(projection);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) TicketStatus status,
+        @RequestParam(required = false) TicketPriority priority,
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
+    ) {
+        TicketExportFormat exportFormat = TicketExportFormat.from(format);
+        TicketFields projection = TicketFields.parse(fields);
+        if (exportFormat == TicketExportFormat.CSV && !projection.isAll()) {
+            throw new IllegalArgumentException("fields is not supported for csv export");
+        }
+        if (webRequest.checkNotModified(etags.queue())) {
+            return null;
+        }
+        StreamingResponseBody body = out -> ticketExporter.export(exportFormat, projection, search, status, priority, out);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets." + exportFormat.getExtension() + "\"")
+            .body(body);
     }
 
     @GetMapping("/{id}")
-    public TicketResponse getById(@PathVariable Long id) {
-        return ticketService.getById(id);
+    public TicketResponse getById(@PathVariable Long id, @RequestParam(required = false) String fields, WebRequest webRequest) {
+        TicketFields projection = TicketFields.parse(fields);
+        TicketResponse ticket = ticketService.getById(id);
+        if (webRequest.checkNotModified(etags.ticket(ticket))) {
+            return null;
+        }
+        return ticket.withFields(projection);
     }
 
     @PutMapping("/{id}")
@@ -66,16 +182,24 @@ public class TicketController {
 
     @PatchMapping("/{id}/status")
     public TicketResponse updateStatus(@PathVariable Long id, @Valid @RequestBody TicketStatusRequest request) {
-        return ticketService.updateStatus(id, request.getStatus());
+        return ticketService.updateStatus(id, request.getStatus(), request.getVersion());
     }
 
     @PatchMapping("/{id}/assign")
     public TicketResponse assign(@PathVariable Long id, @Valid @RequestBody TicketAssignRequest request) {
-        return ticketService.assign(id, request.getAssignedTo());
+        return ticketService.assign(id, request.getAssignedTo(), request.getVersion());
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return ticketEventStream.subscribe();
     }
 
     @GetMapping("/summary")
-    public TicketSummaryResponse summary() {
+    public TicketSummaryResponse summary(WebRequest webRequest) {
+        if (webRequest.checkNotModified(etags.summary())) {
+            return null;
+        }
         return ticketService.summary();
     }
 
@@ -84,4 +208,12 @@ public class TicketController {
     public void delete(@PathVariable Long id) {
         ticketService.delete(id);
     }
+
+    private static String safeSortBy(String sortBy) {
+        return ALLOWED_SORT_FIELDS.contains(sortBy) ? sortBy : "id";
+    }
+
+    private static String safeDirection(String direction) {
+        return "desc".equalsIgnoreCase(direction) ? "desc" : "asc";
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.monolith_service.ticket;
+
+import org.springframework.http.MediaType;
+
+public enum TicketExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv"),
+    CBOR(new MediaType("application", "cbor-seq"), "cbor");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TicketExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static TicketExportFormat from(String value) {
+        for (TicketExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.monolith_service.ticket;
+
+import java.time.Instant;
+
+/**
+ * The columns a ticket listing shows: everything but the description. Selected as a constructor
+ * expression, so rows are plain objects that never enter the persistence context.
+ */
+public class TicketListRow {
+
+    private final Long id;
+    private final String title;
+    private final String customerName;
+    private final String customerEmail;
+    private final TicketPriority priority;
+    private final TicketStatus status;
+    private final String assignedTo;
+    private final Instant slaDueAt;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Long version;
+
+    public TicketListRow(
+        Long id,
+        String title,
+        String customerName,
+        String customerEmail,
+        TicketPriority priority,
+        TicketStatus status,
+        String assignedTo,
+        Instant slaDueAt,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version
+    ) {
+        this.id = id;
+        this.title = title;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.priority = priority;
+        this.status = status;
+        this.assignedTo = assignedTo;
+        this.slaDueAt = slaDueAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public String getAssignedTo() {
+        return assignedTo;
+    }
+
+    public Instant getSlaDueAt() {
+        return slaDueAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public long getSlaDueEpochSecond() {
+        return slaDueAt.getEpochSecond();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.monolith_service.ticket;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL reads the previous row through a locking CTE and H2 through {@code OLD TABLE}, so
+ * both answer in the same round trip as the UPDATE. Other databases lock, then update.
+ */
+class TicketPartialUpdatesImpl implements TicketPartialUpdates {
+
+    private static final String POSTGRES_UPDATE = """
+        with previous as (select * from tickets where id = :id%s for update)
+        update tickets t set %s = :value, updated_at = :now, version = t.version + 1
+        from previous where t.id = previous.id
+        returning previous.*
+        """;
+
+    private static final String H2_UPDATE = """
+        select * from old table (
+            update tickets set %2$s = :value, updated_at = :now, version = version + 1 where id = :id%1$s
+        )
+        """;
+
+    private static final String VERSION_CONDITION = " and version = :version";
+
+    private enum Vendor { POSTGRESQL, H2, OTHER }
+
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+    private volatile Vendor vendor;
+
+    TicketPartialUpdatesImpl(EntityManager entityManager, DataSource dataSource) {
+        this.entityManager = entityManager;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<Ticket> updateStatusReturningPrevious(Long id, TicketStatus status, Long expectedVersion, Instant now) {
+        return updateReturningPrevious(id, "status", "status", status.name(), status, expectedVersion, now);
+    }
+
+    @Override
+    public Optional<Ticket> assignReturningPrevious(Long id, String assignedTo, Long expectedVersion, Instant now) {
+        return updateReturningPrevious(id, "assigned_to", "assignedTo", assignedTo, assignedTo, expectedVersion, now);
+    }
+
+    private Optional<Ticket> updateReturningPrevious(
+        Long id,
+        String column,
+        String attribute,
+        Object columnValue,
+        Object attributeValue,
+        Long expectedVersion,
+        Instant now
+    ) {
+        Vendor current = vendor();
+        if (current == Vendor.OTHER) {
+            return lockThenUpdate(id, attribute, attributeValue, expectedVersion, now);
+        }
+
+        String condition = expectedVersion == null ? "" : VERSION_CONDITION;
+        String sql = current == Vendor.POSTGRESQL
+            ? POSTGRES_UPDATE.formatted(condition, column)
+            : H2_UPDATE.formatted(condition, column);
+        Query query = entityManager.createNativeQuery(sql, Ticket.class)
+            .setParameter("id", id)
+            .setParameter("value", columnValue)
+            .setParameter("now", now);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Ticket> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Ticket previous = rows.get(0);
+        entityManager.detach(previous);
+        return Optional.of(previous);
+    }
+
+    private Optional<Ticket> lockThenUpdate(Long id, String attribute, Object value, Long expectedVersion, Instant now) {
+        Ticket previous = entityManager.find(Ticket.class, id, LockModeType.PESSIMISTIC_WRITE);
+        if (previous == null || (expectedVersion != null && !expectedVersion.equals(previous.getVersion()))) {
+            return Optional.empty();
+        }
+        entityManager.detach(previous);
+        entityManager.createQuery(
+                "update Ticket t set t." + attribute + " = :value, t.updatedAt = :now, t.version = t.version + 1 where t.id = :id")
+            .setParameter("value", value)
+            .setParameter("now", now)
+            .setParameter("id", id)
+            .executeUpdate();
+        return Optional.of(previous);
+    }
+
+    private Vendor vendor() {
+        Vendor detected = vendor;
+        if (detected == null) {
+            detected = detectVendor();
+            vendor = detected;
+        }
+        return detected;
+    }
+
+    private Vendor detectVendor() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                return Vendor.POSTGRESQL;
+            }
+            return "H2".equalsIgnoreCase(product) ? Vendor.H2 : Vendor.OTHER;
+        } catch (MetaDataAccessException ex) {
+            return Vendor.OTHER;
+        }
+    }
+}
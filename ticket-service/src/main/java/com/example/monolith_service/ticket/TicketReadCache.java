@@ -0,0 +1,196 @@
+package com.example.monolith_service.ticket;
+
+import com.example.monolith_service.ticket.dto.TicketPageResponse;
+import com.example.monolith_service.ticket.dto.TicketResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Built responses for {@code getById} and the first pages of unsearched {@code getAll} listings,
+ * bounded by estimated size with Caffeine's W-TinyLFU eviction. Committed changes drop the ticket's
+ * entry and every cached page whose status and priority filter matched the ticket before or after
+ * the change. SLA countdowns are recomputed on every read, so a hit never reports stale SLA state.
+ * Hit, miss and eviction counts are published as {@code cache.*} meters. {@link #version()} moves
+ * after each change has been invalidated, so it can stand in for the state of the whole queue.
+ */
+@Component
+public class TicketReadCache {
+
+    private final Cache<Long, TicketResponse> tickets;
+    private final Cache<PageKey, TicketPageResponse> pages;
+    private final int cachedPages;
+    private final AtomicLong pageInvalidations = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+
+    public TicketReadCache(
+        @Value("${tickets.cache.ticket-max-size:16MB}") DataSize ticketMaxSize,
+        @Value("${tickets.cache.page-max-size:16MB}") DataSize pageMaxSize,
+        @Value("${tickets.cache.cached-pages:3}") int cachedPages,
+        MeterRegistry meterRegistry
+    ) {
+        this.tickets = Caffeine.newBuilder()
+            .maximumWeight(ticketMaxSize.toBytes())
+            .weigher((Long id, TicketResponse ticket) -> weigh(ticket))
+            .recordStats()
+            .build();
+        this.pages = Caffeine.newBuilder()
+            .maximumWeight(pageMaxSize.toBytes())
+            .weigher((PageKey key, TicketPageResponse page) -> weigh(page))
+            .recordStats()
+            .build();
+        this.cachedPages = cachedPages;
+        CaffeineCacheMetrics.monitor(meterRegistry, tickets, "tickets");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "ticket-pages");
+    }
+
+    /**
+     * The cached ticket, or the one {@code loader} builds. A change committed while the loader runs
+     * waits for it and then drops what it produced.
+     */
+    public TicketResponse ticket(Long id, Supplier<TicketResponse> loader) {
+        return tickets.get(id, key -> loader.get()).atTime(SlaClock.nowEpochSecond());
+    }
+
+    /**
+     * The cached listing page, or the one {@code loader} builds. Pages past {@code cached-pages} are
+     * always loaded. A page built while a matching change was committed is not kept.
+     */
+    public TicketPageResponse page(
+        int page,
+        int size,
+        String sortBy,
+        boolean descending,
+        TicketStatus status,
+        TicketPriority priority,
+        boolean withDescription,
+        Supplier<TicketPageResponse> loader
+    ) {
+        if (page >= cachedPages) {
+            return loader.get();
+        }
+        PageKey key = new PageKey(page, size, sortBy, descending, status, priority, withDescription);
+        TicketPageResponse cached = pages.getIfPresent(key);
+        if (cached != null) {
+            return cached.atTime(SlaClock.nowEpochSecond());
+        }
+        long invalidations = pageInvalidations.get();
+        TicketPageResponse loaded = loader.get();
+        if (pageInvalidations.get() == invalidations) {
+            pages.put(key, loaded);
+            if (pageInvalidations.get() != invalidations) {
+                pages.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        TicketSnapshot before = event.getPrevious();
+        TicketSnapshot after = event.getCurrent();
+        tickets.invalidate(event.getTicketId());
+        pageInvalidations.incrementAndGet();
+        pages.asMap().keySet().removeIf(key -> key.matches(before) || key.matches(after));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Number of committed changes seen since startup. A read that starts after observing a value
+     * sees at least those changes, from the cache or the database.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    private static int weigh(TicketPageResponse page) {
+        int weight = 64;
+        for (TicketResponse ticket : page.getItems()) {
+            weight += weigh(ticket);
+        }
+        return weight;
+    }
+
+    /**
+     * Rough retained size in bytes: the object with its boxed and temporal fields, plus the
+     * strings, which are compact Latin-1 for most ticket text.
+     */
+    private static int weigh(TicketResponse ticket) {
+        return 200
+            + weigh(ticket.getTitle())
+            + weigh(ticket.getDescription())
+            + weigh(ticket.getCustomerName())
+            + weigh(ticket.getCustomerEmail())
+            + weigh(ticket.getAssignedTo());
+    }
+
+    private static int weigh(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    private static final class PageKey {
+
+        private final int page;
+        private final int size;
+        private final String sortBy;
+        private final boolean descending;
+        private final TicketStatus status;
+        private final TicketPriority priority;
+        private final boolean withDescription;
+
+        private PageKey(
+            int page,
+            int size,
+            String sortBy,
+            boolean descending,
+            TicketStatus status,
+            TicketPriority priority,
+            boolean withDescription
+        ) {
+            this.page = page;
+            this.size = size;
+            this.sortBy = sortBy;
+            this.descending = descending;
+            this.status = status;
+            this.priority = priority;
+            this.withDescription = withDescription;
+        }
+
+        private boolean matches(TicketSnapshot ticket) {
+            return ticket != null
+                && (status == null || status == ticket.getStatus())
+                && (priority == null || priority == ticket.getPriority());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PageKey other)) {
+                return false;
+            }
+            return page == other.page
+                && size == other.size
+                && descending == other.descending
+                && withDescription == other.withDescription
+                && sortBy.equals(other.sortBy)
+                && status == other.status
+                && priority == other.priority;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(page, size, sortBy, descending, status, priority, withDescription);
+        }
+    }
+}
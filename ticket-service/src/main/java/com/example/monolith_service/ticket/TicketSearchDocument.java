@@ -0,0 +1,18 @@
+package com.example.monolith_service.ticket;
+
+public interface TicketSearchDocument {
+
+    Long getId();
+
+    String getTitle();
+
+    String getCustomerName();
+
+    String getCustomerEmail();
+
+    TicketStatus getStatus();
+
+    TicketPriority getPriority();
+
+    Long getVersion();
+}
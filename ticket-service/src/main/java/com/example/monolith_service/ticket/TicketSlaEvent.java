@@ -0,0 +1,34 @@
+package com.example.monolith_service.ticket;
+
+import java.time.Instant;
+
+/**
+ * A ticket crossed an SLA threshold: it entered the due-soon window or breached its deadline.
+ * Published in-process once per threshold and deadline by {@link SlaEscalationScheduler}.
+ */
+public class TicketSlaEvent {
+
+    public enum Type { DUE_SOON, BREACHED }
+
+    private final Type type;
+    private final Long ticketId;
+    private final Instant slaDueAt;
+
+    public TicketSlaEvent(Type type, Long ticketId, Instant slaDueAt) {
+        this.type = type;
+        this.ticketId = ticketId;
+        this.slaDueAt = slaDueAt;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Instant getSlaDueAt() {
+        return slaDueAt;
+    }
+}
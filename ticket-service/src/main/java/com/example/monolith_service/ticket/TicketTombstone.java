@@ -0,0 +1,35 @@
+package com.example.monolith_service.ticket;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "ticket_tombstones")
+public class TicketTombstone {
+
+    @Id
+    private Long ticketId;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    protected TicketTombstone() {
+    }
+
+    public TicketTombstone(Long ticketId, Instant deletedAt) {
+        this.ticketId = ticketId;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -9,6 +9,12 @@ public class TicketAssignRequest {
     @Size(max = 120, message = "assignedTo must be at most 120 characters")
     private String assignedTo;
 
+    /**
+     * The version the client last read. When present the write applies only if the ticket is
+     * still at that version, and is answered 409 otherwise; without it the last writer wins.
+     */
+    private Long version;
+
     public String getAssignedTo() {
         return assignedTo;
     }
@@ -16,4 +22,12 @@ public class TicketAssignRequest {
     public void setAssignedTo(String assignedTo) {
         this.assignedTo = assignedTo;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.monolith_service.ticket.dto;
+
+import java.util.List;
+
+public class TicketBatchResponse {
+
+    private final List<TicketResponse> items;
+
+    public TicketBatchResponse(List<TicketResponse> items) {
+        this.items = items;
+    }
+
+    public List<TicketResponse> getItems() {
+        return items;
+    }
+
+    public int getCount() {
+        return items.size();
+    }
+
+    public TicketBatchResponse withFields(TicketFields fields) {
+        return fields.isAll() ? this : new TicketBatchResponse(fields.apply(items));
+    }
+}
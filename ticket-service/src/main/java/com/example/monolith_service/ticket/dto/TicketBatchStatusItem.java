@@ -0,0 +1,29 @@
+package com.example.monolith_service.ticket.dto;
+
+import com.example.monolith_service.ticket.TicketStatus;
+import jakarta.validation.constraints.NotNull;
+
+public class TicketBatchStatusItem {
+
+    @NotNull(message = "id is required")
+    private Long id;
+
+    @NotNull(message = "status is required")
+    private TicketStatus status;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TicketStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.monolith_service.ticket.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class TicketBatchStatusRequest {
+
+    @NotEmpty(message = "items must not be empty")
+    @Size(max = 10000, message = "items must contain at most 10000 entries")
+    private List<@Valid TicketBatchStatusItem> items;
+
+    public List<TicketBatchStatusItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TicketBatchStatusItem> items) {
+        this.items = items;
+    }
+}
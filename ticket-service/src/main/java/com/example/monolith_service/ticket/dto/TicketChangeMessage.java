@@ -0,0 +1,22 @@
+package com.example.monolith_service.ticket.dto;
+
+import com.example.monolith_service.ticket.TicketSnapshot;
+
+public class TicketChangeMessage {
+
+    private final String change;
+    private final TicketSnapshot ticket;
+
+    public TicketChangeMessage(String change, TicketSnapshot ticket) {
+        this.change = change;
+        this.ticket = ticket;
+    }
+
+    public String getChange() {
+        return change;
+    }
+
+    public TicketSnapshot getTicket() {
+        return ticket;
+    }
+}
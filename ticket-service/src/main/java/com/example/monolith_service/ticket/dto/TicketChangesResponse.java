@@ -0,0 +1,54 @@
+package com.example.monolith_service.ticket.dto;
+
+import java.util.List;
+
+public class TicketChangesResponse {
+
+    private final List<TicketResponse> upserts;
+    private final List<Long> deletedIds;
+    private final String nextCursor;
+    private final boolean hasMore;
+    private final boolean resetRequired;
+
+    public TicketChangesResponse(
+        List<TicketResponse> upserts,
+        List<Long> deletedIds,
+        String nextCursor,
+        boolean hasMore,
+        boolean resetRequired
+    ) {
+        this.upserts = upserts;
+        this.deletedIds = deletedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.resetRequired = resetRequired;
+    }
+
+    public static TicketChangesResponse reset() {
+        return new TicketChangesResponse(List.of(), List.of(), null, false, true);
+    }
+
+    public List<TicketResponse> getUpserts() {
+        return upserts;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public boolean isResetRequired() {
+        return resetRequired;
+    }
+
+    public TicketChangesResponse withFields(TicketFields fields) {
+        return fields.isAll() ? this : new TicketChangesResponse(fields.apply(upserts), deletedIds, nextCursor, hasMore, resetRequired);
+    }
+}
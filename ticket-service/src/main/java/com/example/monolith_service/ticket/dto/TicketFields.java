@@ -0,0 +1,79 @@
+package com.example.monolith_service.ticket.dto;
+
+import java.util.List;
+
+/**
+ * The {@link TicketResponse} properties a client asked for with {@code fields=id,status,...}.
+ * Unknown names are rejected, so a typo fails the request instead of silently dropping data.
+ */
+public final class TicketFields {
+
+    static final int ID = 0;
+    static final int TITLE = 1;
+    static final int DESCRIPTION = 2;
+    static final int CUSTOMER_NAME = 3;
+    static final int CUSTOMER_EMAIL = 4;
+    static final int PRIORITY = 5;
+    static final int STATUS = 6;
+    static final int ASSIGNED_TO = 7;
+    static final int SLA_DUE_AT = 8;
+    static final int CREATED_AT = 9;
+    static final int UPDATED_AT = 10;
+    static final int VERSION = 11;
+    static final int SLA_SECONDS_REMAINING = 12;
+    static final int BREACHED = 13;
+
+    private static final List<String> NAMES = List.of(
+        "id", "title", "description", "customerName", "customerEmail", "priority", "status",
+        "assignedTo", "slaDueAt", "createdAt", "updatedAt", "version", "slaSecondsRemaining", "breached"
+    );
+    private static final int ALL_MASK = (1 << NAMES.size()) - 1;
+
+    public static final TicketFields ALL = new TicketFields(ALL_MASK);
+
+    /**
+     * Everything but the description, which listings leave out unless asked for by name.
+     */
+    public static final TicketFields LIST = new TicketFields(ALL_MASK & ~(1 << DESCRIPTION));
+
+    private final int mask;
+
+    private TicketFields(int mask) {
+        this.mask = mask;
+    }
+
+    public static TicketFields parse(String fields) {
+        return parse(fields, ALL);
+    }
+
+    public static TicketFields parse(String fields, TicketFields defaults) {
+        if (fields == null || fields.isBlank()) {
+            return defaults;
+        }
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            int index = NAMES.indexOf(name.trim());
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown ticket field: " + name.trim());
+            }
+            mask |= 1 << index;
+        }
+        return mask == ALL_MASK ? ALL : new TicketFields(mask);
+    }
+
+    public boolean isAll() {
+        return mask == ALL_MASK;
+    }
+
+    public boolean includesDescription() {
+        return includes(DESCRIPTION);
+    }
+
+    public List<TicketResponse> apply(List<TicketResponse> tickets) {
+        return isAll() ? tickets : tickets.stream().map(ticket -> ticket.withFields(this)).toList();
+    }
+
+    boolean includes(int field) {
+        return (mask & (1 << field)) != 0;
+    }
+}
@@ -38,6 +38,13 @@ public class TicketRequest {
     @Max(value = 10080, message = "slaMinutes must be at most 10080")
     private Integer slaMinutes;
 
+    /**
+     * On update, the version the client last read; ignored on create. When present the update
+     * applies only if the ticket is still at that version, and is answered 409 otherwise; without
+     * it the last writer wins.
+     */
+    private Long version;
+
     public String getTitle() {
         return title;
     }
@@ -93,4 +100,12 @@ public class TicketRequest {
     public void setSlaMinutes(Integer slaMinutes) {
         this.slaMinutes = slaMinutes;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
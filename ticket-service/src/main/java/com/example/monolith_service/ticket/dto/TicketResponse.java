@@ -1,10 +1,14 @@
 package com.example.monolith_service.ticket.dto;
 
+import com.example.monolith_service.ticket.SlaClock;
 import com.example.monolith_service.ticket.TicketPriority;
 import com.example.monolith_service.ticket.TicketStatus;
 
+import tools.jackson.databind.annotation.JsonSerialize;
+
 import java.time.Instant;
 
+@JsonSerialize(using = TicketResponseSerializer.class)
 public class TicketResponse {
 
     private final Long id;
@@ -18,8 +22,10 @@ public class TicketResponse {
     private final Instant slaDueAt;
     private final Instant createdAt;
     private final Instant updatedAt;
+    private final Long version;
     private final long slaSecondsRemaining;
     private final boolean breached;
+    private TicketFields fields = TicketFields.ALL;
 
     public TicketResponse(
         Long id,
@@ -33,6 +39,7 @@ public class TicketResponse {
         Instant slaDueAt,
         Instant createdAt,
         Instant updatedAt,
+        Long version,
         long slaSecondsRemaining,
         boolean breached
     ) {
@@ -47,6 +54,7 @@ public class TicketResponse {
         this.slaDueAt = slaDueAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
         this.slaSecondsRemaining = slaSecondsRemaining;
         this.breached = breached;
     }
@@ -95,6 +103,10 @@ public class TicketResponse {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public long getSlaSecondsRemaining() {
         return slaSecondsRemaining;
     }
@@ -102,4 +114,41 @@ public class TicketResponse {
     public boolean isBreached() {
         return breached;
     }
+
+    /**
+     * Copy that serializes only the given fields; the getters still return every value. Returns
+     * itself when it already has that projection.
+     */
+    public TicketResponse withFields(TicketFields fields) {
+        if (fields.isAll() || fields == this.fields) {
+            return this;
+        }
+        TicketResponse projected = new TicketResponse(
+            id, title, description, customerName, customerEmail, priority, status, assignedTo,
+            slaDueAt, createdAt, updatedAt, version, slaSecondsRemaining, breached
+        );
+        projected.fields = fields;
+        return projected;
+    }
+
+    /**
+     * This response with the SLA countdown and breach flag recomputed for {@code nowEpochSecond},
+     * for responses that were built earlier and kept. Returns itself when neither has moved.
+     */
+    public TicketResponse atTime(long nowEpochSecond) {
+        long remaining = slaDueAt.getEpochSecond() - nowEpochSecond;
+        if (remaining == slaSecondsRemaining) {
+            return this;
+        }
+        TicketResponse current = new TicketResponse(
+            id, title, description, customerName, customerEmail, priority, status, assignedTo,
+            slaDueAt, createdAt, updatedAt, version, remaining, SlaClock.isBreached(remaining, status)
+        );
+        current.fields = fields;
+        return current;
+    }
+
+    TicketFields fields() {
+        return fields;
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.monolith_service.ticket.dto;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes only the properties selected by the response's {@link TicketFields}. It is bound by
+ * annotation, so JSON, CBOR and the export stream project the same way whichever mapper writes them.
+ */
+public class TicketResponseSerializer extends StdSerializer<TicketResponse> {
+
+    public TicketResponseSerializer() {
+        super(TicketResponse.class);
+    }
+
+    @Override
+    public void serialize(TicketResponse ticket, JsonGenerator gen, SerializationContext ctxt) {
+        TicketFields fields = ticket.fields();
+        gen.writeStartObject(ticket);
+        if (fields.includes(TicketFields.ID)) {
+            gen.writePOJOProperty("id", ticket.getId());
+        }
+        if (fields.includes(TicketFields.TITLE)) {
+            gen.writeStringProperty("title", ticket.getTitle());
+        }
+        if (fields.includes(TicketFields.DESCRIPTION)) {
+            gen.writeStringProperty("description", ticket.getDescription());
+        }
+        if (fields.includes(TicketFields.CUSTOMER_NAME)) {
+            gen.writeStringProperty("customerName", ticket.getCustomerName());
+        }
+        if (fields.includes(TicketFields.CUSTOMER_EMAIL)) {
+            gen.writeStringProperty("customerEmail", ticket.getCustomerEmail());
+        }
+        if (fields.includes(TicketFields.PRIORITY)) {
+            gen.writePOJOProperty("priority", ticket.getPriority());
+        }
+        if (fields.includes(TicketFields.STATUS)) {
+            gen.writePOJOProperty("status", ticket.getStatus());
+        }
+        if (fields.includes(TicketFields.ASSIGNED_TO)) {
+            gen.writeStringProperty("assignedTo", ticket.getAssignedTo());
+        }
+        if (fields.includes(TicketFields.SLA_DUE_AT)) {
+            gen.writePOJOProperty("slaDueAt", ticket.getSlaDueAt());
+        }
+        if (fields.includes(TicketFields.CREATED_AT)) {
+            gen.writePOJOProperty("createdAt", ticket.getCreatedAt());
+        }
+        if (fields.includes(TicketFields.UPDATED_AT)) {
+            gen.writePOJOProperty("updatedAt", ticket.getUpdatedAt());
+        }
+        if (fields.includes(TicketFields.VERSION)) {
+            gen.writePOJOProperty("version", ticket.getVersion());
+        }
+        if (fields.includes(TicketFields.SLA_SECONDS_REMAINING)) {
+            gen.writeNumberProperty("slaSecondsRemaining", ticket.getSlaSecondsRemaining());
+        }
+        if (fields.includes(TicketFields.BREACHED)) {
+            gen.writeBooleanProperty("breached", ticket.isBreached());
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.monolith_service.ticket.dto;
+
+import java.util.List;
+
+public class TicketSliceResponse {
+
+    private final List<TicketResponse> items;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public TicketSliceResponse(List<TicketResponse> items, int size, boolean hasNext, String nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TicketResponse> getItems() {
+        return items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public TicketSliceResponse withFields(TicketFields fields) {
+        return fields.isAll() ? this : new TicketSliceResponse(fields.apply(items), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.monolith_service.ticket.search;
+
+import com.example.monolith_service.ticket.Ticket;
+import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketRepository;
+import com.example.monolith_service.ticket.TicketStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Uses the generated {@code search_vector} column (GIN) for prefix-matched, ts_rank-ordered term
+ * search, plus the trigram index on {@code customer_email} for partial email matches. Listings
+ * filter through {@link TicketSearchFunctions}, so the match runs inside their own query.
+ */
+@Component
+@Profile("prod")
+public class PostgresTicketSearch implements TicketSearch {
+
+    private final TicketRepository ticketRepository;
+
+    public PostgresTicketSearch(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    @Override
+    public Specification<Ticket> matching(String query) {
+        List<String> terms = SearchTerms.tokenize(query);
+        if (terms.isEmpty()) {
+            return (root, criteria, cb) -> cb.disjunction();
+        }
+        String tsQuery = tsQuery(terms);
+        String emailPattern = emailPattern(query);
+        return (root, criteria, cb) -> cb.isTrue(cb.function(
+            TicketSearchFunctions.TEXT_MATCH,
+            Boolean.class,
+            root.get("id"),
+            cb.literal(tsQuery),
+            cb.literal(emailPattern)
+        ));
+    }
+
+    @Override
+    public List<Long> search(String query, TicketStatus status, TicketPriority priority, int offset, int limit) {
+        List<String> terms = SearchTerms.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return ticketRepository.searchRanked(
+            tsQuery(terms),
+            emailPattern(query),
+            status == null ? null : status.name(),
+            priority == null ? null : priority.name(),
+            offset,
+            limit
+        );
+    }
+
+    private static String tsQuery(List<String> terms) {
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+
+    private static String emailPattern(String query) {
+        return "%" + query.trim().toLowerCase()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_") + "%";
+    }
+}
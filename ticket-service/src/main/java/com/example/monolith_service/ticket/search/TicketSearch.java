@@ -0,0 +1,23 @@
+package com.example.monolith_service.ticket.search;
+
+import com.example.monolith_service.ticket.Ticket;
+import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TicketSearch {
+
+    /**
+     * Tickets whose title, customer name or customer email match every term of the query (each
+     * term as a prefix), unranked and uncapped, as a predicate of the listing query itself.
+     */
+    Specification<Ticket> matching(String query);
+
+    /**
+     * Ids of the same tickets with the given status and priority (null for any), best match first,
+     * skipping the first {@code offset}.
+     */
+    List<Long> search(String query, TicketStatus status, TicketPriority priority, int offset, int limit);
+}
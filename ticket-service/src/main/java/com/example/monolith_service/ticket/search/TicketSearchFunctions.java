@@ -0,0 +1,39 @@
+package com.example.monolith_service.ticket.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code ticket_text_match(id, tsQuery, emailPattern)} so a Criteria query can filter on
+ * the unmapped, PostgreSQL-only {@code search_vector} column. The semi-join keeps the match inside
+ * the listing's own statement, where it can use the GIN indexes and still be combined with the
+ * other filters, sorted, counted and paged in SQL. {@code ticket_term_match(text, regex)} is the
+ * fallback {@link InMemoryTicketSearch} uses for match sets too large to bind as ids. Loaded
+ * through {@code META-INF/services}.
+ */
+public class TicketSearchFunctions implements FunctionContributor {
+
+    static final String TEXT_MATCH = "ticket_text_match";
+    static final String TERM_MATCH = "ticket_term_match";
+
+    private static final String TEXT_MATCH_PATTERN = """
+        (?1 in (select s.id from tickets s
+            where s.search_vector @@ to_tsquery('simple', ?2) or s.customer_email ilike ?3))""";
+
+    private static final String TERM_MATCH_PATTERN = "regexp_like(?1, ?2)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions contributions) {
+        contributions.getFunctionRegistry().registerPattern(
+            TEXT_MATCH,
+            TEXT_MATCH_PATTERN,
+            contributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN)
+        );
+        contributions.getFunctionRegistry().registerPattern(
+            TERM_MATCH,
+            TERM_MATCH_PATTERN,
+            contributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN)
+        );
+    }
+}
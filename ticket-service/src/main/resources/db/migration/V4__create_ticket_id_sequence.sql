@@ -0,0 +1,3 @@
+-- Pooled sequence for Ticket ids (allocationSize = 50) so Hibernate can batch inserts;
+-- IDENTITY columns force one INSERT round trip per row.
+CREATE SEQUENCE IF NOT EXISTS ticket_id_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,120 @@
+package com.example.monolith_service.ticket;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link TicketChangeCursor}: resuming after the last row of a full page, jumping to the horizon
+ * after a short one, and the opaque token round trip.
+ */
+class TicketChangeCursorTest {
+
+    private static final Instant HORIZON = Instant.parse("2026-01-05T09:00:00Z");
+
+    @Test
+    void initialReadsAllTicketsAndDeletionsFromTheGivenPoint() {
+        TicketChangeCursor cursor = TicketChangeCursor.initial(HORIZON);
+
+        assertEquals(Instant.EPOCH, cursor.getTicketsAfter());
+        assertEquals(0L, cursor.getTicketsAfterId());
+        assertEquals(HORIZON, cursor.getDeletionsAfter());
+        assertEquals(0L, cursor.getDeletionsAfterId());
+    }
+
+    @Test
+    void fullPagesResumeAfterTheirLastRow() {
+        TicketChangeCursor cursor = TicketChangeCursor.initial(HORIZON.minusSeconds(3600)).advance(
+            List.of(ticket(7, HORIZON.minusSeconds(30)), ticket(3, HORIZON.minusSeconds(20))),
+            List.of(tombstone(11, HORIZON.minusSeconds(50)), tombstone(4, HORIZON.minusSeconds(40))),
+            2,
+            HORIZON
+        );
+
+        assertEquals(HORIZON.minusSeconds(20), cursor.getTicketsAfter());
+        assertEquals(3L, cursor.getTicketsAfterId());
+        assertEquals(HORIZON.minusSeconds(40), cursor.getDeletionsAfter());
+        assertEquals(4L, cursor.getDeletionsAfterId());
+    }
+
+    @Test
+    void shortPagesJumpToTheHorizon() {
+        TicketChangeCursor cursor = TicketChangeCursor.initial(HORIZON.minusSeconds(3600)).advance(
+            List.of(ticket(7, HORIZON.minusSeconds(30))),
+            List.of(),
+            2,
+            HORIZON
+        );
+
+        assertEquals(HORIZON, cursor.getTicketsAfter());
+        assertEquals(Long.MAX_VALUE, cursor.getTicketsAfterId());
+        assertEquals(HORIZON, cursor.getDeletionsAfter());
+        assertEquals(Long.MAX_VALUE, cursor.getDeletionsAfterId());
+    }
+
+    @Test
+    void eachFeedAdvancesOnItsOwn() {
+        TicketChangeCursor cursor = TicketChangeCursor.initial(HORIZON.minusSeconds(3600)).advance(
+            List.of(),
+            List.of(tombstone(5, HORIZON.minusSeconds(10))),
+            1,
+            HORIZON
+        );
+
+        assertEquals(HORIZON, cursor.getTicketsAfter());
+        assertEquals(Long.MAX_VALUE, cursor.getTicketsAfterId());
+        assertEquals(HORIZON.minusSeconds(10), cursor.getDeletionsAfter());
+        assertEquals(5L, cursor.getDeletionsAfterId());
+    }
+
+    @Test
+    void tokensRoundTrip() {
+        TicketChangeCursor cursor = TicketChangeCursor.initial(HORIZON).advance(
+            List.of(ticket(42, Instant.parse("2026-01-05T08:59:59.123456Z"))),
+            List.of(),
+            1,
+            HORIZON
+        );
+
+        TicketChangeCursor decoded = TicketChangeCursor.decode(cursor.encode());
+
+        assertEquals(Instant.parse("2026-01-05T08:59:59.123456Z"), decoded.getTicketsAfter());
+        assertEquals(42L, decoded.getTicketsAfterId());
+        assertEquals(HORIZON, decoded.getDeletionsAfter());
+        assertEquals(Long.MAX_VALUE, decoded.getDeletionsAfterId());
+        assertEquals(cursor.encode(), decoded.encode());
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String token : List.of("not base64!", encode("a|b|c"), encode("x|1|" + HORIZON + "|2"),
+            encode(HORIZON + "|one|" + HORIZON + "|2"))) {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> TicketChangeCursor.decode(token));
+            assertEquals("Invalid cursor", ex.getMessage());
+        }
+    }
+
+    private static Ticket ticket(long id, Instant updatedAt) {
+        Ticket ticket = mock(Ticket.class);
+        when(ticket.getId()).thenReturn(id);
+        when(ticket.getUpdatedAt()).thenReturn(updatedAt);
+        return ticket;
+    }
+
+    private static TicketTombstone tombstone(long ticketId, Instant deletedAt) {
+        return new TicketTombstone(ticketId, deletedAt);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
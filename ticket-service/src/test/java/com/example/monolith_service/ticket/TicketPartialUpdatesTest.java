@@ -0,0 +1,180 @@
+package com.example.monolith_service.ticket;
+
+import com.example.monolith_service.error.ApiErrorResponse;
+import com.example.monolith_service.error.GlobalExceptionHandler;
+import com.example.monolith_service.error.ResourceNotFoundException;
+import com.example.monolith_service.ticket.dto.TicketRequest;
+import com.example.monolith_service.ticket.search.TicketSearch;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The single-statement status and assignee updates on H2, where the previous row is read back
+ * through {@code OLD TABLE}, and the stale-version path from {@link TicketService} to a 409.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TicketPartialUpdatesTest {
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long id;
+
+    @BeforeEach
+    void saveOpenTicket() {
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Printer jam");
+        ticket.setDescription("Paper stuck in tray 2");
+        ticket.setCustomerName("Alice Smith");
+        ticket.setCustomerEmail("alice@example.com");
+        ticket.setPriority(TicketPriority.HIGH);
+        ticket.setStatus(TicketStatus.OPEN);
+        ticket.setSlaDueAt(Instant.now().plus(Duration.ofHours(4)));
+        id = ticketRepository.saveAndFlush(ticket).getId();
+        entityManager.clear();
+    }
+
+    @Test
+    void statusUpdateReturnsTheRowAsItWas() {
+        Optional<Ticket> previous = ticketRepository.updateStatusReturningPrevious(id, TicketStatus.IN_PROGRESS, 0L,
+            Instant.now());
+
+        assertTrue(previous.isPresent());
+        assertEquals(TicketStatus.OPEN, previous.get().getStatus());
+        assertEquals(0L, previous.get().getVersion());
+        Ticket stored = reload();
+        assertEquals(TicketStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void assignWithoutAVersionSkipsTheCheck() {
+        ticketRepository.updateStatusReturningPrevious(id, TicketStatus.IN_PROGRESS, null, Instant.now());
+
+        Optional<Ticket> previous = ticketRepository.assignReturningPrevious(id, "bob", null, Instant.now());
+
+        assertTrue(previous.isPresent());
+        assertNull(previous.get().getAssignedTo());
+        assertEquals(1L, previous.get().getVersion());
+        Ticket stored = reload();
+        assertEquals("bob", stored.getAssignedTo());
+        assertEquals(TicketStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals(2L, stored.getVersion());
+    }
+
+    @Test
+    void staleVersionUpdatesNothing() {
+        ticketRepository.assignReturningPrevious(id, "bob", 0L, Instant.now());
+
+        assertTrue(ticketRepository.updateStatusReturningPrevious(id, TicketStatus.RESOLVED, 0L, Instant.now()).isEmpty());
+        assertTrue(ticketRepository.assignReturningPrevious(id, "carol", 0L, Instant.now()).isEmpty());
+        Ticket stored = reload();
+        assertEquals(TicketStatus.OPEN, stored.getStatus());
+        assertEquals("bob", stored.getAssignedTo());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void missingTicketUpdatesNothing() {
+        assertTrue(ticketRepository.updateStatusReturningPrevious(id + 1, TicketStatus.RESOLVED, null, Instant.now())
+            .isEmpty());
+        assertTrue(ticketRepository.assignReturningPrevious(id + 1, "bob", 0L, Instant.now()).isEmpty());
+    }
+
+    @Test
+    void serviceAnswersAStaleVersionWithAConflict() {
+        TicketService ticketService = ticketService();
+        assertEquals(TicketStatus.IN_PROGRESS, ticketService.updateStatus(id, TicketStatus.IN_PROGRESS, 0L).getStatus());
+
+        ObjectOptimisticLockingFailureException ex = assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> ticketService.assign(id, "bob", 0L));
+        ResponseEntity<ApiErrorResponse> response = new GlobalExceptionHandler()
+            .handleOptimisticLocking(ex, new MockHttpServletRequest("PATCH", "/tickets/" + id + "/assign"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNull(reload().getAssignedTo());
+    }
+
+    @Test
+    void serviceRejectsAStaleVersionOnUpdate() {
+        TicketService ticketService = ticketService();
+        ticketService.assign(id, "bob", 0L);
+        entityManager.clear();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> ticketService.update(id, edit("Paper jam", 0L)));
+        assertEquals("Printer jam", reload().getTitle());
+
+        assertEquals("Paper jam", ticketService.update(id, edit("Paper jam", 1L)).getTitle());
+        assertEquals("Paper feed", ticketService.update(id, edit("Paper feed", null)).getTitle());
+    }
+
+    @Test
+    void serviceAnswersAMissingTicketWithNotFound() {
+        TicketService ticketService = ticketService();
+
+        assertThrows(ResourceNotFoundException.class, () -> ticketService.updateStatus(id + 1, TicketStatus.RESOLVED, 0L));
+        assertThrows(ResourceNotFoundException.class, () -> ticketService.assign(id + 1, "bob", null));
+    }
+
+    private Ticket reload() {
+        entityManager.clear();
+        return ticketRepository.findById(id).orElseThrow();
+    }
+
+    private static TicketRequest edit(String title, Long version) {
+        TicketRequest request = new TicketRequest();
+        request.setTitle(title);
+        request.setDescription("Paper stuck in tray 2");
+        request.setCustomerName("Alice Smith");
+        request.setCustomerEmail("alice@example.com");
+        request.setPriority(TicketPriority.HIGH);
+        request.setSlaMinutes(240);
+        request.setVersion(version);
+        return request;
+    }
+
+    private TicketService ticketService() {
+        return new TicketService(
+            ticketRepository,
+            tombstoneRepository,
+            entityManager,
+            mock(TicketQueueCounters.class),
+            mock(SlaDeadlineIndex.class),
+            mock(TicketSearch.class),
+            mock(TicketReadCache.class),
+            mock(OpenWriteTransactions.class),
+            mock(ApplicationEventPublisher.class),
+            "memory",
+            Duration.ofSeconds(2),
+            Duration.ofDays(7)
+        );
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.monolith_service.ticket.search;
+
+import com.example.monolith_service.ticket.Ticket;
+import com.example.monolith_service.ticket.TicketChangedEvent;
+import com.example.monolith_service.ticket.TicketPriority;
+import com.example.monolith_service.ticket.TicketRepository;
+import com.example.monolith_service.ticket.TicketSnapshot;
+import com.example.monolith_service.ticket.TicketStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link InMemoryTicketSearch} fed committed ticket changes: every query term must prefix-match a
+ * term of the title, customer name or customer email, and ranking prefers exact terms and the
+ * heavier fields.
+ */
+class InMemoryTicketSearchTest {
+
+    private static final Instant DUE = Instant.parse("2026-01-05T09:00:00Z");
+
+    private InMemoryTicketSearch search;
+
+    @BeforeEach
+    void emptyIndex() {
+        search = new InMemoryTicketSearch(mock(TicketRepository.class));
+        search.rebuild();
+    }
+
+    @Test
+    void matchesEveryTermAsAPrefixOfAnyField() {
+        index(1, "Printer jam on floor 3", "Alice Smith", "alice@example.com");
+        index(2, "Printing queue stuck", "Bob Jones", "bob@example.com");
+        index(3, "VPN down", "Carol White", "carol@printshop.example.com");
+        index(4, "Password reset", "Dave Black", "dave@example.com");
+
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(search("print")));
+        assertEquals(List.of(1L), search("PRINT ali"));
+        assertEquals(List.of(3L), search("carol print"));
+        assertEquals(List.of(), search("print dave"));
+        assertEquals(List.of(), search("rinter"));
+        assertEquals(List.of(), search("  ,, "));
+    }
+
+    @Test
+    void ranksExactTermsAndHeavierFieldsFirst() {
+        index(1, "Printer offline", "Erin", "erin@example.com");
+        index(2, "Queue stuck", "Frank", "print@example.com");
+        index(3, "Print server down", "Grace", "grace@example.com");
+        index(4, "Toner low", "Print Shop", "shop@example.com");
+        index(5, "Printers offline", "Heidi", "heidi@example.com");
+
+        assertEquals(List.of(3L, 4L, 1L, 5L, 2L), search("print"));
+    }
+
+    @Test
+    void filtersByStatusAndPriorityBeforePaging() {
+        index(1, "Printer jam", TicketStatus.OPEN, TicketPriority.HIGH, 0);
+        index(2, "Printer toner", TicketStatus.RESOLVED, TicketPriority.HIGH, 0);
+        index(3, "Printer driver", TicketStatus.OPEN, TicketPriority.LOW, 0);
+        index(4, "Printer cable", TicketStatus.OPEN, TicketPriority.HIGH, 0);
+        index(5, "Printer paper", TicketStatus.OPEN, TicketPriority.HIGH, 0);
+
+        assertEquals(List.of(1L, 3L, 4L, 5L), search.search("printer", TicketStatus.OPEN, null, 0, 10));
+        assertEquals(List.of(1L, 2L, 4L, 5L), search.search("printer", null, TicketPriority.HIGH, 0, 10));
+        assertEquals(List.of(4L, 5L), search.search("printer", TicketStatus.OPEN, TicketPriority.HIGH, 1, 2));
+        assertEquals(List.of(), search.search("printer", TicketStatus.OPEN, TicketPriority.HIGH, 3, 2));
+    }
+
+    @Test
+    void followsEditsAndDeletesButIgnoresStaleVersions() {
+        index(1, "Printer jam", TicketStatus.OPEN, TicketPriority.HIGH, 2);
+
+        index(1, "Scanner jam", TicketStatus.OPEN, TicketPriority.HIGH, 1);
+        assertEquals(List.of(1L), search("printer"));
+
+        index(1, "Scanner jam", TicketStatus.OPEN, TicketPriority.HIGH, 3);
+        assertEquals(List.of(), search("printer"));
+        assertEquals(List.of(1L), search("scan"));
+
+        search.onTicketChanged(TicketChangedEvent.deleted(
+            snapshot(1, "Scanner jam", "Customer", "customer@example.com", TicketStatus.OPEN, TicketPriority.HIGH, 3)));
+        assertEquals(List.of(), search("scan"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void matchingCoversEveryMatchUnranked() {
+        for (long id = 1; id <= 1_000; id++) {
+            index(id, "Printer jam " + id, "Customer", "customer@example.com");
+        }
+        index(1_001, "VPN down", "Customer", "customer@example.com");
+        Root<Ticket> root = mock(Root.class);
+        Path<Object> idPath = mock(Path.class);
+        doReturn(idPath).when(root).get("id");
+
+        search.matching("printer").toPredicate(root, mock(CriteriaQuery.class), mock(CriteriaBuilder.class));
+
+        verify(idPath).in(LongStream.rangeClosed(1, 1_000).boxed().collect(Collectors.toSet()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void matchingFallsBackToTermPatternsPastTheIdBound() {
+        for (long id = 1; id <= 1_001; id++) {
+            index(id, "Printer jam " + id, "Customer", "customer@example.com");
+        }
+        Root<Ticket> root = mock(Root.class);
+        Path<Object> idPath = mock(Path.class);
+        doReturn(idPath).when(root).get("id");
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+        search.matching("printer jam").toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        verify(idPath, never()).in(anyCollection());
+        verify(cb, times(6)).function(eq(TicketSearchFunctions.TERM_MATCH), eq(Boolean.class), any(), any());
+        verify(cb, times(3)).literal("(^|[^\\p{L}\\p{N}])printer");
+        verify(cb, times(3)).literal("(^|[^\\p{L}\\p{N}])jam");
+    }
+
+    private List<Long> search(String query) {
+        return search.search(query, null, null, 0, 100);
+    }
+
+    private void index(long id, String title, String customerName, String customerEmail) {
+        search.onTicketChanged(TicketChangedEvent.created(
+            snapshot(id, title, customerName, customerEmail, TicketStatus.OPEN, TicketPriority.MEDIUM, 0)));
+    }
+
+    private void index(long id, String title, TicketStatus status, TicketPriority priority, long version) {
+        search.onTicketChanged(TicketChangedEvent.created(
+            snapshot(id, title, "Customer", "customer@example.com", status, priority, version)));
+    }
+
+    private static TicketSnapshot snapshot(
+        long id,
+        String title,
+        String customerName,
+        String customerEmail,
+        TicketStatus status,
+        TicketPriority priority,
+        long version
+    ) {
+        return new TicketSnapshot(id, title, customerName, customerEmail, priority, status, null, DUE, DUE, version);
+    }
+}